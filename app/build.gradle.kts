@@ -32,6 +32,12 @@ java {
 application {
     // Classe principale de l'application
     mainClass = "org.mazeApp.Launcher"
+    // L'API Foreign Memory (stockage hors tas) est en preview dans Java 21
+    applicationDefaultJvmArgs = listOf("--enable-preview")
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--enable-preview")
 }
 
 // Configuration du plugin JavaFX
@@ -42,6 +48,23 @@ javafx {
 
 tasks.named<Test>("test") {
     useJUnitPlatform()
+    jvmArgs("--enable-preview")
 }
 
 
+
+// Benchmark du BFS selon la disposition mémoire : ./gradlew orderingBenchmark --args="8192 5"
+tasks.register<JavaExec>("orderingBenchmark") {
+    group = "benchmark"
+    mainClass = "org.mazeApp.benchmark.OrderingBenchmark"
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs("--enable-preview", "-Xmx4g")
+}
+
+// Débit des générateurs en cellules par seconde : ./gradlew generatorBenchmark --args="2048 5"
+tasks.register<JavaExec>("generatorBenchmark") {
+    group = "benchmark"
+    mainClass = "org.mazeApp.benchmark.GeneratorBenchmark"
+    classpath = sourceSets["main"].runtimeClasspath
+    jvmArgs("--enable-preview", "-Xmx4g")
+}
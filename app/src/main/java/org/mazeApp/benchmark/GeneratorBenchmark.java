@@ -0,0 +1,69 @@
+package org.mazeApp.benchmark;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.MazeValidator;
+import org.mazeApp.model.generator.BinaryTreeGenerator;
+import org.mazeApp.model.generator.DFSGenerator;
+import org.mazeApp.model.generator.GrowingTreeGenerator;
+import org.mazeApp.model.generator.KruskalGenerator;
+import org.mazeApp.model.generator.MazeGenerator;
+import org.mazeApp.model.generator.PrimGenerator;
+import org.mazeApp.model.generator.RecursiveDivisionGenerator;
+import org.mazeApp.model.generator.SelectionPolicy;
+import org.mazeApp.model.generator.SidewinderGenerator;
+
+/**
+ * Compares the generation throughput of the maze generators, in cells per second.
+ * <p>
+ * Usage: {@code GeneratorBenchmark [size] [runs] [seed]}, 2048 x 2048 cells and
+ * 5 runs by default. Each maze is checked with {@link MazeValidator} once, and
+ * its number of dead ends is printed to compare the textures.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class GeneratorBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2048;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int seed = args.length > 2 ? Integer.parseInt(args[2]) : 42;
+        MazeGenerator[] generators = {new KruskalGenerator(), new DFSGenerator(), new PrimGenerator(),
+            new RecursiveDivisionGenerator(), new GrowingTreeGenerator(SelectionPolicy.newest()),
+            new GrowingTreeGenerator(SelectionPolicy.random()),
+            new GrowingTreeGenerator(SelectionPolicy.mixed(0.75, 0.25, 0)),
+            new SidewinderGenerator(), new BinaryTreeGenerator()};
+        long cells = (long) size * size;
+
+        System.out.println("Maze " + size + "x" + size + ", best of " + runs + " runs:");
+        for (MazeGenerator generator : generators) {
+            long best = Long.MAX_VALUE;
+            EdgeBuffer edges = null;
+            for (int run = 0; run < runs; run++) {
+                long begin = System.nanoTime();
+                edges = generator.generatePacked(size, size, seed + run);
+                best = Math.min(best, System.nanoTime() - begin);
+            }
+            if (!MazeValidator.validate(size, size, edges).isPerfect()) {
+                throw new IllegalStateException(generator.getName() + " did not generate a perfect maze");
+            }
+            System.out.printf("  %-52s: %6d ms, %8.1f Mcells/s, %5.1f %% dead ends%n", generator.getName(),
+                    best / 1_000_000, cells * 1000.0 / Math.max(1, best), 100.0 * deadEnds(edges, size * size) / cells);
+        }
+    }
+
+    private static int deadEnds(EdgeBuffer edges, int vertexCount) {
+        int[] degrees = new int[vertexCount];
+        for (int i = 0; i < edges.size(); i++) {
+            degrees[edges.sourceAt(i)]++;
+            degrees[edges.destinationAt(i)]++;
+        }
+        int count = 0;
+        for (int degree : degrees) {
+            if (degree == 1) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,66 @@
+package org.mazeApp.benchmark;
+
+import org.mazeApp.model.FrozenGraph;
+import org.mazeApp.model.Graph;
+import org.mazeApp.model.GridMaze;
+import org.mazeApp.model.VertexOrdering;
+import org.mazeApp.model.algorithms.BFSsolver;
+import org.mazeApp.model.generator.KruskalGenerator;
+
+/**
+ * Compares BFS throughput on a large maze laid out row-major and in Morton order.
+ * <p>
+ * Usage: {@code OrderingBenchmark [size] [runs] [seed]}, 8192 x 8192 cells and
+ * 5 runs by default. The maze needs about 4 GB of heap at the default size.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class OrderingBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 8192;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int seed = args.length > 2 ? Integer.parseInt(args[2]) : 42;
+
+        long begin = System.currentTimeMillis();
+        GridMaze grid = new GridMaze(size, size);
+        new KruskalGenerator().generateInto(grid, seed);
+        Graph graph = Graph.fromGrid(grid);
+        System.out.println("Maze " + size + "x" + size + " generated in " + (System.currentTimeMillis() - begin) + " ms");
+
+        begin = System.currentTimeMillis();
+        FrozenGraph rowMajor = graph.freeze();
+        System.out.println("Row-major layout built in " + (System.currentTimeMillis() - begin) + " ms");
+        begin = System.currentTimeMillis();
+        FrozenGraph morton = graph.freeze(VertexOrdering.morton(size, size));
+        System.out.println("Morton layout built in " + (System.currentTimeMillis() - begin) + " ms");
+
+        // From one corner to the other, so that most of the maze is explored
+        int start = 0;
+        int end = size * size - 1;
+        BFSsolver solver = new BFSsolver();
+        long bestRowMajor = Long.MAX_VALUE;
+        long bestMorton = Long.MAX_VALUE;
+        int visited = 0;
+        for (int run = 0; run < runs; run++) {
+            int[] rowMajorPath = solver.findPath(rowMajor, start, end);
+            bestRowMajor = Math.min(bestRowMajor, solver.getExecutionTime());
+            visited = solver.getvisitedVerticesNumber();
+            int[] mortonPath = solver.findPath(morton, start, end);
+            bestMorton = Math.min(bestMorton, solver.getExecutionTime());
+            if (rowMajorPath.length != mortonPath.length) {
+                throw new IllegalStateException("The two layouts gave paths of different lengths");
+            }
+        }
+
+        System.out.println();
+        System.out.println("Best of " + runs + " runs, " + visited + " vertices visited:");
+        System.out.printf("  row-major : %6d ms, %8.1f Mvertices/s%n", bestRowMajor, throughput(visited, bestRowMajor));
+        System.out.printf("  Morton    : %6d ms, %8.1f Mvertices/s%n", bestMorton, throughput(visited, bestMorton));
+    }
+
+    private static double throughput(int visited, long millis) {
+        return visited / 1000.0 / Math.max(1, millis);
+    }
+}
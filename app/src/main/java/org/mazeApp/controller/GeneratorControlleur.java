@@ -1,13 +1,13 @@
 package org.mazeApp.controller;
 
-import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.EdgeBuffer;
 import org.mazeApp.model.Graph;
 import org.mazeApp.model.SaveManager;
 import org.mazeApp.model.generator.DFSGenerator;
 import org.mazeApp.model.generator.KruskalGenerator;
+import org.mazeApp.model.generator.MazeGenerator;
 import org.mazeApp.view.MazeView;
 import org.mazeApp.view.SaveView;
 
@@ -59,6 +59,7 @@ public class GeneratorControlleur {
     private SaveManager saveManager;
     private SaveView saveView;
     private int delay = 5; // Delay in milliseconds for animation
+    private MazeGenerator generator = new KruskalGenerator(); // Algorithm selected by the radio buttons
 
 
     /**
@@ -135,9 +136,9 @@ public class GeneratorControlleur {
           imperfectMzCheckBoxState.set(!imperfectMzCheckBoxState.get());
         });
 
-        kruskalRadio.setOnAction(e -> Graph.setGenerator(new KruskalGenerator(imperfectMzCheckBoxState.get())));
+        kruskalRadio.setOnAction(e -> this.generator = new KruskalGenerator(imperfectMzCheckBoxState.get()));
         
-        dfsRadio.setOnAction(e -> Graph.setGenerator(new DFSGenerator(imperfectMzCheckBoxState.get())));
+        dfsRadio.setOnAction(e -> this.generator = new DFSGenerator(imperfectMzCheckBoxState.get()));
         
         HBox radioBox = new HBox(10, kruskalRadio, dfsRadio);
         radioBox.setAlignment(Pos.CENTER);
@@ -201,7 +202,7 @@ public class GeneratorControlleur {
             }
             System.out.println("Generating a " + rows + "x" + columns + " maze with seed " + seed);
             // Create a new graph with the current settings
-            Graph newModel = new Graph(seed, rows, columns);
+            Graph newModel = new Graph(seed, rows, columns, generator);
             newModel.getAllNeighbours();
 
             // update the model in the main controller
@@ -237,7 +238,7 @@ public class GeneratorControlleur {
             animatedGraph.setSeed(seed);  // Définir la graine pour la cohérence
             
             // Recup the step of generation during this
-            ArrayList<Edges> steps = Graph.getCurrentGenerator().generate(rows, columns, seed);
+            EdgeBuffer steps = generator.generatePacked(rows, columns, seed);
             
             // Create a new view of the maze
             MazeView animatedMazeView = new MazeView(animatedGraph, mainController.getGraphView());
@@ -255,9 +256,8 @@ public class GeneratorControlleur {
                 final int index = i;
                 KeyFrame frame = new KeyFrame(Duration.millis(i * delay), e -> {
                     if (index < steps.size()) {  
-                        Edges edge = steps.get(index);
-                        animatedGraph.addEdge(edge.getSource(), edge.getDestination());
-                        animatedMazeView.draw();
+                        // The maze view removes the wall through its graph listener
+                        animatedGraph.addEdge(steps.sourceAt(index), steps.destinationAt(index));
                     }
                 });
                 timeline.getKeyFrames().add(frame);
@@ -0,0 +1,388 @@
+package org.mazeApp.model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mazeApp.model.generator.MazeGenerator;
+
+/**
+ * Maze graph that several threads can edit at the same time.
+ * <p>
+ * The grid is cut into bands of {@link #getBandRows()} rows, each guarded by
+ * its own read-write lock. A passage only locks the bands of its two cells
+ * (the lower band first, so two writers never wait on each other in a cycle),
+ * which lets parallel generators and editors working on disjoint regions
+ * proceed without contention. The number of passages and the content hash
+ * are kept in atomic accumulators instead of behind a global lock.
+ * </p>
+ * <p>
+ * Unlike {@link Graph}, a passage is stored at most once: adding an existing
+ * passage does nothing. Once the writers are done, {@link #toGraph()} copies
+ * the passages into a regular graph for the views and solvers.
+ * </p>
+ * <pre>{@code
+ * ConcurrentGraph maze = new ConcurrentGraph(rows, columns);
+ * // each worker opens passages in its own rows
+ * maze.addEdge(v, v + 1);
+ * Graph graph = maze.toGraph();
+ * }</pre>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class ConcurrentGraph {
+
+    /** Default number of grid rows guarded by one lock. */
+    public static final int DEFAULT_BAND_ROWS = 16;
+
+    private final int rows;
+    private final int columns;
+    private final int vertexCount;
+    private final int bandRows;
+    private final int bandVertices;
+    private final ReentrantReadWriteLock[] locks;
+    // Neighbours of each vertex in adjacency[v][0 .. degrees[v] - 1], guarded by the band of v
+    private final int[][] adjacency;
+    private final int[] degrees;
+    private final LongAdder edgeCount = new LongAdder();
+    // XOR of the keys of every passage, see Graph#contentHash()
+    private final LongAccumulator passageHash = new LongAccumulator((a, b) -> a ^ b, 0);
+
+    /**
+     * Creates a graph without any passage, with the default band height.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public ConcurrentGraph(int rows, int columns) {
+        this(rows, columns, DEFAULT_BAND_ROWS);
+    }
+
+    /**
+     * Creates a graph without any passage.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param bandRows number of rows guarded by one lock
+     */
+    public ConcurrentGraph(int rows, int columns, int bandRows) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        if (bandRows <= 0) {
+            throw new IllegalArgumentException("Invalid band height: " + bandRows);
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze of " + rows + "x" + columns
+                    + " cells is too large for adjacency lists");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.vertexCount = rows * columns;
+        this.bandRows = bandRows;
+        this.bandVertices = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, (long) bandRows * columns));
+        int bandCount = Math.max(1, (rows + bandRows - 1) / bandRows);
+        this.locks = new ReentrantReadWriteLock[bandCount];
+        for (int i = 0; i < bandCount; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        this.adjacency = new int[vertexCount][];
+        Arrays.fill(adjacency, Graph.NO_NEIGHBOURS);
+        this.degrees = new int[vertexCount];
+    }
+
+    /**
+     * Generates a maze with a given generator. The generator belongs to the
+     * call, so mazes can be generated at the same time with different algorithms.
+     *
+     * @param seed seed for the maze generation
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param generator the algorithm to use
+     * @return a new graph holding the generated passages
+     */
+    public static ConcurrentGraph generate(int seed, int rows, int columns, MazeGenerator generator) {
+        ConcurrentGraph graph = new ConcurrentGraph(rows, columns);
+        graph.addEdges(generator.generatePacked(rows, columns, seed));
+        return graph;
+    }
+
+    /**
+     * Adds a passage between two cells.
+     *
+     * @param source the first cell
+     * @param destination the second cell
+     * @return true if the passage was added, false if it was already there
+     * @throws IllegalArgumentException if a cell is outside the grid or both are the same
+     */
+    public boolean addEdge(int source, int destination) {
+        checkEdge(source, destination);
+        int first = Math.min(bandOf(source), bandOf(destination));
+        int second = Math.max(bandOf(source), bandOf(destination));
+        lockWrite(first, second);
+        try {
+            if (contains(source, destination)) {
+                return false;
+            }
+            append(source, destination);
+            append(destination, source);
+        } finally {
+            unlockWrite(first, second);
+        }
+        edgeCount.increment();
+        passageHash.accumulate(Graph.passageKey(source, destination));
+        return true;
+    }
+
+    /**
+     * Adds every passage of a buffer, one at a time.
+     *
+     * @param edges the packed passages
+     * @return the number of passages added
+     */
+    public int addEdges(EdgeBuffer edges) {
+        int added = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            long edge = edges.get(i);
+            if (addEdge(Edges.sourceOf(edge), Edges.destinationOf(edge))) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Removes the passage between two cells.
+     *
+     * @param source the first cell
+     * @param destination the second cell
+     * @return true if the passage was removed, false if there was none
+     * @throws IllegalArgumentException if a cell is outside the grid or both are the same
+     */
+    public boolean removeEdge(int source, int destination) {
+        checkEdge(source, destination);
+        int first = Math.min(bandOf(source), bandOf(destination));
+        int second = Math.max(bandOf(source), bandOf(destination));
+        lockWrite(first, second);
+        try {
+            if (!remove(source, destination)) {
+                return false;
+            }
+            remove(destination, source);
+        } finally {
+            unlockWrite(first, second);
+        }
+        edgeCount.decrement();
+        passageHash.accumulate(Graph.passageKey(source, destination));
+        return true;
+    }
+
+    /**
+     * Checks if there is a passage between two cells.
+     *
+     * @param source the first cell
+     * @param destination the second cell
+     * @return true if the two cells are linked
+     */
+    public boolean hasEdge(int source, int destination) {
+        checkVertex(source);
+        checkVertex(destination);
+        Lock lock = locks[bandOf(source)].readLock();
+        lock.lock();
+        try {
+            return contains(source, destination);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of the neighbours of a cell, in insertion order.
+     *
+     * @param vertex the cell
+     * @return the neighbours at the time of the call
+     */
+    public int[] getNeighbours(int vertex) {
+        checkVertex(vertex);
+        Lock lock = locks[bandOf(vertex)].readLock();
+        lock.lock();
+        try {
+            return Arrays.copyOf(adjacency[vertex], degrees[vertex]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of passages of a cell.
+     *
+     * @param vertex the cell
+     * @return the degree of the cell
+     */
+    public int degree(int vertex) {
+        checkVertex(vertex);
+        Lock lock = locks[bandOf(vertex)].readLock();
+        lock.lock();
+        try {
+            return degrees[vertex];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of passages. While writers are running, the value
+     * may miss the passages being added at the same time.
+     *
+     * @return the number of passages
+     */
+    public int getEdgesNb() {
+        return edgeCount.intValue();
+    }
+
+    /**
+     * Returns the same value as {@link Graph#contentHash()} on a graph holding
+     * the same passages. Only exact once the writers are done.
+     *
+     * @return the content hash
+     */
+    public long contentHash() {
+        return Graph.dimensionKey(rows, columns) ^ passageHash.get();
+    }
+
+    /**
+     * Copies the passages into a regular graph. Every band is locked for
+     * reading during the copy, so the result is a consistent state.
+     *
+     * @return a new graph holding the same passages
+     */
+    public Graph toGraph() {
+        for (ReentrantReadWriteLock lock : locks) {
+            lock.readLock().lock();
+        }
+        try {
+            EdgeBuffer edges = new EdgeBuffer(edgeCount.intValue());
+            for (int v = 0; v < vertexCount; v++) {
+                int[] neighbours = adjacency[v];
+                for (int i = 0; i < degrees[v]; i++) {
+                    if (neighbours[i] > v) {
+                        edges.add(v, neighbours[i]);
+                    }
+                }
+            }
+            return new GraphBuilder(rows, columns).edges(edges).build();
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the band holding a cell.
+     *
+     * @param vertex the cell
+     * @return the index of the lock guarding the cell
+     */
+    public int bandOf(int vertex) {
+        return vertex / bandVertices;
+    }
+
+    /**
+     * {@return the number of lock bands}
+     */
+    public int getBandCount() {
+        return locks.length;
+    }
+
+    /**
+     * {@return the number of rows guarded by one lock}
+     */
+    public int getBandRows() {
+        return bandRows;
+    }
+
+    /**
+     * {@return the number of rows}
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * {@return the number of columns}
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * {@return the number of cells}
+     */
+    public int getVertexNb() {
+        return vertexCount;
+    }
+
+    private void lockWrite(int first, int second) {
+        locks[first].writeLock().lock();
+        if (second != first) {
+            locks[second].writeLock().lock();
+        }
+    }
+
+    private void unlockWrite(int first, int second) {
+        if (second != first) {
+            locks[second].writeLock().unlock();
+        }
+        locks[first].writeLock().unlock();
+    }
+
+    private boolean contains(int source, int destination) {
+        int[] neighbours = adjacency[source];
+        for (int i = 0; i < degrees[source]; i++) {
+            if (neighbours[i] == destination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void append(int vertex, int neighbour) {
+        int[] neighbours = adjacency[vertex];
+        if (degrees[vertex] == neighbours.length) {
+            // A maze cell has at most 4 neighbours, editor-made passages aside
+            neighbours = Arrays.copyOf(neighbours, Math.max(4, neighbours.length * 2));
+            adjacency[vertex] = neighbours;
+        }
+        neighbours[degrees[vertex]++] = neighbour;
+    }
+
+    private boolean remove(int vertex, int neighbour) {
+        int[] neighbours = adjacency[vertex];
+        int degree = degrees[vertex];
+        for (int i = 0; i < degree; i++) {
+            if (neighbours[i] == neighbour) {
+                System.arraycopy(neighbours, i + 1, neighbours, i, degree - i - 1);
+                degrees[vertex] = degree - 1;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkEdge(int source, int destination) {
+        checkVertex(source);
+        checkVertex(destination);
+        if (source == destination) {
+            throw new IllegalArgumentException("A passage must link two different cells: " + source);
+        }
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertexCount) {
+            throw new IllegalArgumentException("Invalid vertex: " + vertex);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package org.mazeApp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * Growable list of edges stored as packed {@code long} values
+ * ({@link Edges#pack(int, int)}), without one object per edge.
+ * <p>
+ * Generators fill it with their passages and {@link Graph} reads it in bulk.
+ * {@link Edges} objects are only created when a legacy caller asks for them
+ * with {@link #edgeAt(int)} or {@link #toEdgeList()}.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class EdgeBuffer {
+
+    private long[] edges;
+    private int size;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public EdgeBuffer() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty buffer able to hold a number of edges without growing.
+     *
+     * @param capacity initial capacity
+     */
+    public EdgeBuffer(int capacity) {
+        this.edges = new long[Math.max(0, capacity)];
+        this.size = 0;
+    }
+
+    /**
+     * Creates a buffer backed by an array of packed edges, without copying it.
+     * The array must not be modified by the caller afterwards.
+     *
+     * @param packed the packed edges, all of them in use
+     * @return a new buffer
+     */
+    public static EdgeBuffer wrap(long[] packed) {
+        EdgeBuffer buffer = new EdgeBuffer(0);
+        buffer.edges = packed;
+        buffer.size = packed.length;
+        return buffer;
+    }
+
+    /**
+     * Creates a buffer holding the same edges as a list, in the same order.
+     *
+     * @param list the edges to copy
+     * @return a new buffer
+     */
+    public static EdgeBuffer fromEdges(List<Edges> list) {
+        EdgeBuffer buffer = new EdgeBuffer(list.size());
+        for (Edges edge : list) {
+            buffer.add(edge.getSource(), edge.getDestination());
+        }
+        return buffer;
+    }
+
+    /**
+     * Appends an edge.
+     *
+     * @param source the source vertex
+     * @param destination the destination vertex
+     */
+    public void add(int source, int destination) {
+        addPacked(Edges.pack(source, destination));
+    }
+
+    /**
+     * Appends an edge already packed with {@link Edges#pack(int, int)}.
+     *
+     * @param packed the packed edge
+     */
+    public void addPacked(long packed) {
+        if (size == edges.length) {
+            edges = Arrays.copyOf(edges, Math.max(16, edges.length + (edges.length >> 1)));
+        }
+        edges[size++] = packed;
+    }
+
+    /**
+     * Appends every edge of another buffer.
+     *
+     * @param other the edges to append
+     */
+    public void addAll(EdgeBuffer other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.edges, 0, edges, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Grows the buffer so that it can hold a number of edges without reallocating.
+     *
+     * @param capacity the required capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > edges.length) {
+            edges = Arrays.copyOf(edges, Math.max(capacity, edges.length + (edges.length >> 1)));
+        }
+    }
+
+    /**
+     * Returns a packed edge.
+     *
+     * @param index position of the edge
+     * @return the packed edge
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return edges[index];
+    }
+
+    /**
+     * Returns the source vertex of an edge.
+     *
+     * @param index position of the edge
+     * @return the source vertex
+     */
+    public int sourceAt(int index) {
+        return Edges.sourceOf(get(index));
+    }
+
+    /**
+     * Returns the destination vertex of an edge.
+     *
+     * @param index position of the edge
+     * @return the destination vertex
+     */
+    public int destinationAt(int index) {
+        return Edges.destinationOf(get(index));
+    }
+
+    /**
+     * Returns an edge as a new {@link Edges} object, for legacy callers.
+     *
+     * @param index position of the edge
+     * @return a view of the edge
+     */
+    public Edges edgeAt(int index) {
+        long packed = get(index);
+        return new Edges(Edges.sourceOf(packed), Edges.destinationOf(packed));
+    }
+
+    /**
+     * Removes the edge at a position, keeping the order of the others.
+     *
+     * @param index position of the edge
+     * @return the removed packed edge
+     */
+    public long removeAt(int index) {
+        checkIndex(index);
+        long removed = edges[index];
+        System.arraycopy(edges, index + 1, edges, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes every occurrence of an edge, in one pass.
+     *
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return the number of edges removed
+     */
+    public int remove(int source, int destination) {
+        long packed = Edges.pack(source, destination);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (edges[i] != packed) {
+                edges[kept++] = edges[i];
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Checks if an edge is present.
+     *
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return true if the buffer holds this edge
+     */
+    public boolean contains(int source, int destination) {
+        long packed = Edges.pack(source, destination);
+        for (int i = 0; i < size; i++) {
+            if (edges[i] == packed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calls an action for every packed edge, in order.
+     *
+     * @param action the action receiving each packed edge
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(edges[i]);
+        }
+    }
+
+    /**
+     * {@return a stream of the packed edges, in order}
+     */
+    public LongStream stream() {
+        return Arrays.stream(edges, 0, size);
+    }
+
+    /**
+     * {@return a copy of the packed edges}
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(edges, size);
+    }
+
+    /**
+     * Materializes the edges as {@link Edges} objects, for legacy callers.
+     *
+     * @return a new list of edges, in order
+     */
+    public ArrayList<Edges> toEdgeList() {
+        ArrayList<Edges> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new Edges(Edges.sourceOf(edges[i]), Edges.destinationOf(edges[i])));
+        }
+        return list;
+    }
+
+    /**
+     * {@return the number of edges}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return true if the buffer holds no edge}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every edge, keeping the allocated capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+}
@@ -16,9 +16,9 @@ package org.mazeApp.model;
 public class Edges {
 
   //The source vertex of the edge.
-  private int source;
+  private final int source;
   //The destination vertex of the edge.
-  private int destination;
+  private final int destination;
   
 
   /**
@@ -50,6 +50,35 @@ public class Edges {
   public int getDestination() {
       return this.destination;
   }
+  /**
+   * Packs a passage in a single {@code long}: the source in the high 32 bits,
+   * the destination in the low 32 bits.
+   * @param source the source vertex
+   * @param destination the destination vertex
+   * @return the packed passage
+   */
+  public static long pack(int source, int destination) {
+      return ((long) source << 32) | (destination & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Returns the source vertex of a passage packed with {@link #pack(int, int)}.
+   * @param packed the packed passage
+   * @return the source vertex
+   */
+  public static int sourceOf(long packed) {
+      return (int) (packed >>> 32);
+  }
+
+  /**
+   * Returns the destination vertex of a passage packed with {@link #pack(int, int)}.
+   * @param packed the packed passage
+   * @return the destination vertex
+   */
+  public static int destinationOf(long packed) {
+      return (int) packed;
+  }
+
   /**
    * Returns a string representation of this edge in the format "(source -> destination)".
    * 
@@ -0,0 +1,120 @@
+package org.mazeApp.model;
+
+/**
+ * Immutable compressed-sparse-row (CSR) snapshot of a {@link Graph}.
+ * <p>
+ * The neighbours of vertex {@code v} are stored in
+ * {@code targets[offsets[v]]} to {@code targets[offsets[v + 1] - 1]}, in the
+ * same order as in the graph. Solvers can then iterate over the neighbours
+ * with a plain loop on primitive arrays instead of walking {@link Edges} objects.
+ * </p>
+ * <p>
+ * A snapshot is obtained with {@link Graph#freeze()} and never changes: editing
+ * the graph afterwards produces a new snapshot on the next call.
+ * </p>
+ * <p>
+ * A snapshot obtained with {@link Graph#freeze(VertexOrdering)} is indexed by
+ * the internal indices of its {@link #getOrdering() ordering}, both in the
+ * offsets and in the targets.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class FrozenGraph {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final VertexOrdering ordering;
+
+    /**
+     * Builds a snapshot from already laid out arrays.
+     *
+     * @param offsets start index of each vertex in {@code targets}, of length vertexCount + 1
+     * @param targets neighbours of every vertex, one after the other
+     */
+    FrozenGraph(int[] offsets, int[] targets) {
+        this(offsets, targets, null);
+    }
+
+    /**
+     * Builds a snapshot from arrays laid out in the internal order of a vertex ordering.
+     *
+     * @param offsets start index of each internal index in {@code targets}
+     * @param targets internal indices of the neighbours, one after the other
+     * @param ordering the ordering of the vertices, or null for the public order
+     */
+    FrozenGraph(int[] offsets, int[] targets, VertexOrdering ordering) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.ordering = ordering;
+    }
+
+    /**
+     * {@return the ordering of the vertices, or null if they are stored by public index}
+     */
+    public VertexOrdering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * Translates a public vertex index to the index used in the arrays of this snapshot.
+     *
+     * @param vertex the public index
+     * @return the index in {@link #getOffsets()}
+     */
+    public int toInternal(int vertex) {
+        return ordering == null ? vertex : ordering.toInternal(vertex);
+    }
+
+    /**
+     * Translates an index used in the arrays of this snapshot to the public vertex index.
+     *
+     * @param internal the index in {@link #getOffsets()}
+     * @return the public index, or -1 for an unused internal index
+     */
+    public int toPublic(int internal) {
+        return ordering == null ? internal : ordering.toPublic(internal);
+    }
+
+    /**
+     * Returns the offsets array. It must not be modified.
+     *
+     * @return the start index of each vertex in {@link #getTargets()}, plus a final sentinel
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the targets array. It must not be modified.
+     *
+     * @return the neighbours of every vertex, one after the other
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Returns the number of neighbours of a vertex.
+     *
+     * @param vertex the vertex
+     * @return its degree
+     */
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * {@return the number of vertices of the snapshot, or of internal indices if it is reordered}
+     */
+    public int getVertexNb() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * {@return the number of stored adjacency entries (twice the number of passages)}
+     */
+    public int getTargetsNb() {
+        return targets.length;
+    }
+}
@@ -1,7 +1,15 @@
 package org.mazeApp.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
+import org.mazeApp.model.GraphJournal.Operation;
 import org.mazeApp.model.generator.KruskalGenerator;
 import org.mazeApp.model.generator.MazeGenerator;
 
@@ -20,46 +28,118 @@ public class Graph {
     private int edgeCount;
     private int rows;
     private int columns;
-    private ArrayList<ArrayList<Edges>> graphMaze;
+    // Neighbours of each vertex in adjacency[v][0 .. degrees[v] - 1]
+    private int[][] adjacency;
+    private int[] degrees;
+    private GridMaze grid;
+    private final AtomicReference<GraphSnapshot> published = new AtomicReference<>();
+    private final BitSet dirtyBlocks = new BitSet();
+    private boolean layoutChanged = true;
+    private final BitSet removedVertices = new BitSet();
+    private int removedVertexCount;
+    private int[] lastRemap;
+    // XOR of the keys of every passage, see contentHash()
+    private long passageHash;
+    private boolean passageHashValid;
+    private final GraphJournal journal = new GraphJournal(GraphJournal.DEFAULT_CAPACITY);
+    private final List<GraphChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private long notifiedVersion;
+    private int batchDepth;
+    private EdgeBuffer generationEdges;
     private ArrayList<Edges> generationSteps;
-    private static MazeGenerator currentGenerator = new KruskalGenerator();
+    // Default generator, used when none is given to the constructor
+    private static volatile MazeGenerator currentGenerator = new KruskalGenerator();
+    private MazeGenerator generator;
     private int seed;
 
+    static final int[] NO_NEIGHBOURS = new int[0];
+
     /**
      * Return the generation steps of the maze.
+     * The list is only built on the first call; prefer {@link #getGenerationEdges()}.
      */
     public ArrayList<Edges> getGenerationSteps() {
+        if (generationSteps == null) {
+            generationSteps = generationEdges.toEdgeList();
+        }
         return generationSteps;
     }
 
     /**
-     * Main constructor for a rectangular grid maze with kruskal generator.
+     * Return the generation steps of the maze as packed edges, without creating objects.
+     * @return the passages in the order they were generated
+     */
+    public EdgeBuffer getGenerationEdges() {
+        return generationEdges;
+    }
+
+    /**
+     * Main constructor for a rectangular grid maze with the default generator,
+     * see {@link #setGenerator(MazeGenerator)}.
      * 
      * @param seed The seed for random generation
      * @param rows Number of rows in the grid
      * @param columns Number of columns in the grid
      */
     public Graph(int seed, int rows, int columns) {
-        int totalVertices = rows * columns;
+        this(seed, rows, columns, currentGenerator);
+    }
+
+    /**
+     * Constructor for a rectangular grid maze with a given generator.
+     * The generator only belongs to this graph, so mazes can be generated
+     * from several threads with different algorithms.
+     * 
+     * @param seed The seed for random generation
+     * @param rows Number of rows in the grid
+     * @param columns Number of columns in the grid
+     * @param generator The algorithm used to generate the maze
+     */
+    public Graph(int seed, int rows, int columns, MazeGenerator generator) {
+        this(rows, columns, seed, generator.generatePacked(rows, columns, seed));
+        this.generator = generator;
+    }
+
+    /**
+     * Constructor laying out generated passages in one go, see {@link GraphBuilder}.
+     * @param rows Number of rows in the grid
+     * @param columns Number of columns in the grid
+     * @param seed The seed used for the generation
+     * @param generated the generated passages
+     */
+    private Graph(int rows, int columns, int seed, EdgeBuffer generated) {
+        this(rows, columns, seed, GraphBuilder.layout(rows * columns, generated), generated.size(), generated);
+    }
 
-        this.vertexCount = totalVertices;
+    /**
+     * Constructor for a graph whose adjacency is already laid out, used by {@link GraphBuilder}.
+     * @param rows Number of rows in the grid
+     * @param columns Number of columns in the grid
+     * @param seed The seed of the maze
+     * @param adjacency exactly-sized neighbour arrays, one per vertex
+     * @param edgeCount number of passages
+     * @param generationEdges the passages in generation order
+     */
+    Graph(int rows, int columns, int seed, int[][] adjacency, int edgeCount, EdgeBuffer generationEdges) {
+        this.vertexCount = rows * columns;
         this.rows = rows;
         this.columns = columns;
-        this.edgeCount = 0;
-        this.graphMaze = new ArrayList<>();
-        this.generationSteps = new ArrayList<>();
-        this.seed = seed; 
-
-        initializeGraph(totalVertices);
-        generateGridMaze(seed, rows, columns);
+        this.edgeCount = edgeCount;
+        this.generationEdges = generationEdges;
+        this.seed = seed;
+        this.adjacency = adjacency;
+        this.degrees = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            degrees[v] = adjacency[v].length;
+        }
     }
 
     /**
      * Permit to recup all the neighbors of an edge
      */
     public void getAllNeighbours(){
-        for(ArrayList<Edges> arrayEdges : graphMaze){
-            for(Edges edge : arrayEdges){
+        for(int i = 0; i < vertexCount; i++){
+            for(Edges edge : getEdges(i)){
                 System.out.println(edge);
             }
             System.out.println();
@@ -84,58 +164,153 @@ public class Graph {
      * @return a new graph with news dimensions
      */
     public static Graph emptyGraph(int rows, int columns) {
-        return new Graph(true, rows, columns);
+        return new GraphBuilder(rows, columns).build();
     }
 
     /**
-     * Factory method to create an empty graph.
-     * @param empty say if the grid is empty
+     * Factory method to create a maze stored in a {@link GridMaze} (2 bits per cell)
+     * instead of adjacency lists. The resulting graph answers the same queries
+     * as a regular one but only accepts passages between adjacent cells.
+     * @param seed seed for the maze generation
      * @param rows numbers of rows
      * @param columns numbers of columns
-     * @return a new graph with news dimensions
+     * @return a new compact graph generated with the default generator
      */
-    private Graph(boolean empty, int rows, int columns) {
-        int totalVertices = rows * columns;
-        this.vertexCount = totalVertices;
-        this.rows = rows;
-        this.columns = columns;
+    public static Graph compactGraph(int seed, int rows, int columns) {
+        return compactGraph(seed, rows, columns, currentGenerator);
+    }
+
+    /**
+     * Factory method to create a compact maze, see {@link #compactGraph(int, int, int)},
+     * with a given generator.
+     * @param seed seed for the maze generation
+     * @param rows numbers of rows
+     * @param columns numbers of columns
+     * @param generator the algorithm used to generate the maze
+     * @return a new compact graph
+     */
+    public static Graph compactGraph(int seed, int rows, int columns, MazeGenerator generator) {
+        GridMaze grid = new GridMaze(rows, columns);
+        // Generated straight into the storage, so that mazes beyond 2^31 cells work too
+        generator.generateInto(grid, seed);
+        Graph graph = new Graph(grid);
+        graph.seed = seed;
+        graph.generator = generator;
+        return graph;
+    }
+
+    /**
+     * Factory method to create an empty compact graph.
+     * @param rows numbers of rows
+     * @param columns numbers of columns
+     * @return a new compact graph without any passage
+     */
+    public static Graph emptyCompactGraph(int rows, int columns) {
+        return new Graph(new GridMaze(rows, columns));
+    }
+
+    /**
+     * Factory method to wrap an existing grid storage, such as an
+     * {@link OffHeapGridMaze} or a {@link TiledGridMaze}, so that solvers and
+     * views can use it like any other graph. The storage is shared, not copied.
+     * @param grid the storage holding the passages
+     * @return a compact graph reading and writing the given storage
+     */
+    public static Graph fromGrid(GridMaze grid) {
+        return new Graph(grid);
+    }
+
+    /**
+     * Constructor for a graph backed by a grid storage.
+     * @param grid the storage holding the passages
+     */
+    protected Graph(GridMaze grid) {
+        // Mazes beyond 2^31 cells are only reachable through the long-indexed methods
+        this.vertexCount = (int) Math.min(grid.getCellCount(), Integer.MAX_VALUE);
+        this.rows = grid.getRows();
+        this.columns = grid.getColumns();
         this.edgeCount = 0;
-        this.graphMaze = new ArrayList<>();
-        this.generationSteps = new ArrayList<>();
-        this.seed = 0; // Valeur par défaut pour un graphe vide
-        
-        initializeGraph(totalVertices);
-        
-        // Don't generate the maze if empty is true
-        if (!empty) {
-            generateGridMaze(this.seed, rows, columns);
+        this.grid = grid;
+        this.generationEdges = new EdgeBuffer(0);
+        this.seed = 0;
+    }
+
+    /**
+     * {@return true if the passages are stored in a {@link GridMaze} instead of adjacency lists}
+     */
+    public boolean isCompact() {
+        return grid != null;
+    }
+
+    /**
+     * Append a neighbour to the adjacency of a vertex, growing its array if needed.
+     * @param vertex the vertex
+     * @param neighbour the neighbour to append
+     */
+    private void appendNeighbour(int vertex, int neighbour) {
+        int[] neighbours = adjacency[vertex];
+        int degree = degrees[vertex];
+        if (degree == neighbours.length) {
+            neighbours = Arrays.copyOf(neighbours, Math.max(4, 2 * degree));
+            adjacency[vertex] = neighbours;
         }
+        neighbours[degree] = neighbour;
+        degrees[vertex] = degree + 1;
     }
 
     /**
-     * Initialize the graph with empty adjacency lists.
-     * @param totalVertices Total number of vertices on the graph
+     * Remove every occurrence of a neighbour from the adjacency of a vertex, keeping the order of the others.
+     * @param vertex the vertex
+     * @param neighbour the neighbour to remove
+     * @return the number of occurrences removed
      */
-    private void initializeGraph(int totalVertices) {
-        for (int i = 0; i < totalVertices; i++) {
-            this.graphMaze.add(new ArrayList<>());
+    private int removeNeighbour(int vertex, int neighbour) {
+        int[] neighbours = adjacency[vertex];
+        int degree = degrees[vertex];
+        int kept = 0;
+        for (int i = 0; i < degree; i++) {
+            if (neighbours[i] != neighbour) {
+                neighbours[kept++] = neighbours[i];
+            }
         }
+        degrees[vertex] = kept;
+        return degree - kept;
     }
 
     /**
-     * Generate the grid maze 
-     * @param seed seed for the maze generation
-     * @param rows numbers of rows
-     * @param columns numbers of columns
-     * @return a new graph with news dimensions
+     * Add every edge of a buffer, in order, notifying the listeners once.
+     * @param edges the packed edges to add
      */
-    private void generateGridMaze(int seed, int rows, int columns) {
-        generationSteps = currentGenerator.generate(rows, columns, seed);
-        
-        // Build the graph using the edges generated
-        for (Edges edge : generationSteps) {
-            addEdgeBidirectional(edge.getSource(), edge.getDestination());
+    public void addEdges(EdgeBuffer edges) {
+        beginBatch();
+        for (int i = 0; i < edges.size(); i++) {
+            long edge = edges.get(i);
+            addEdgeBidirectional(Edges.sourceOf(edge), Edges.destinationOf(edge));
         }
+        endBatch();
+    }
+
+    /**
+     * Remove every edge of a buffer, notifying the listeners once.
+     * @param edges the packed edges to remove
+     */
+    public void removeEdges(EdgeBuffer edges) {
+        beginBatch();
+        for (int i = 0; i < edges.size(); i++) {
+            long edge = edges.get(i);
+            removeEdge(Edges.sourceOf(edge), Edges.destinationOf(edge));
+        }
+        endBatch();
+    }
+
+    /**
+     * Return every passage once, from the lower to the higher vertex, packed in a buffer.
+     * @return a new buffer of passages
+     */
+    public EdgeBuffer getEdgeBuffer() {
+        EdgeBuffer buffer = new EdgeBuffer(getEdgesNb());
+        uniqueEdges().forEach(buffer::addPacked);
+        return buffer;
     }
     /**
      * Create an edge between two vertices
@@ -143,40 +318,275 @@ public class Graph {
      * @param source start point
      */
     private void addEdgeBidirectional(int source, int destination) {
-        this.graphMaze.get(source).add(new Edges(source, destination));
-        this.graphMaze.get(destination).add(new Edges(destination, source));
-        this.edgeCount++;
+        if (removedVertexCount > 0 && (removedVertices.get(source) || removedVertices.get(destination))) {
+            throw new IllegalArgumentException("Cannot connect a removed vertex: " + source + " -> " + destination);
+        }
+        markDirty(source, destination);
+        if (grid != null) {
+            boolean open = grid.hasEdge(source, destination);
+            grid.addEdge(source, destination);
+            if (!open) {
+                passageHash ^= passageKey(source, destination);
+            }
+        } else {
+            if (!hasEdge(source, destination)) {
+                passageHash ^= passageKey(source, destination);
+            }
+            appendNeighbour(source, destination);
+            appendNeighbour(destination, source);
+            this.edgeCount++;
+        }
+        record(Operation.ADD_EDGE, source, destination);
     }
     /**
-     * Remove a vertex from the graph
+     * Remove a vertex from the graph and renumber the following vertices.
+     * This costs a pass over the whole graph: to remove many vertices, use
+     * {@link #tombstoneVertex(int)} for each of them and {@link #compact()} once.
      * @param vertex vertex which can be remove
      */
     public void removeVertex(int vertex) {
-        int edgesToRemove = graphMaze.get(vertex).size();
-        graphMaze.remove(vertex);
-        vertexCount--;
-        edgeCount -= edgesToRemove;
-
-        for (ArrayList<Edges> edges : graphMaze) {
-            edges.removeIf(edge -> edge.getDestination() == vertex);
-
-            for (Edges edge : new ArrayList<>(edges)) {
-                if (edge.getDestination() > vertex) {
-                    int newDest = edge.getDestination() - 1;
-                    edges.remove(edge);
-                    edges.add(new Edges(edge.getSource(), newDest));
+        tombstoneVertex(vertex);
+        compact();
+    }
+
+    /**
+     * Remove a vertex without renumbering the others: its passages are closed
+     * and it is marked as removed until the next {@link #compact()}. The cost is
+     * proportional to the degrees of the vertex and of its neighbours, and solvers
+     * keep seeing the same vertex numbers (a removed vertex has no neighbour).
+     * @param vertex the vertex to remove
+     */
+    public void tombstoneVertex(int vertex) {
+        if (grid != null) {
+            throw new UnsupportedOperationException("Vertices cannot be removed from a compact grid maze");
+        }
+        if (vertex < 0 || vertex >= vertexCount) {
+            throw new IllegalArgumentException("Invalid vertex: " + vertex + ". Must be between 0 and " + (vertexCount - 1));
+        }
+        if (removedVertices.get(vertex)) {
+            return;
+        }
+        beginBatch();
+        int[] neighbours = adjacency[vertex];
+        int loopEntries = 0;
+        for (int i = 0; i < degrees[vertex]; i++) {
+            int neighbour = neighbours[i];
+            if (neighbour == vertex) {
+                // A loop is stored twice in the list but counts as one passage
+                if (loopEntries++ % 2 == 1) {
+                    continue;
+                }
+                if (loopEntries == 1) {
+                    passageHash ^= passageKey(vertex, vertex);
+                }
+            } else if (removeNeighbour(neighbour, vertex) > 0) {
+                passageHash ^= passageKey(vertex, neighbour);
+            }
+            markDirty(vertex, neighbour);
+            edgeCount--;
+            record(Operation.REMOVE_EDGE, vertex, neighbour);
+        }
+        adjacency[vertex] = NO_NEIGHBOURS;
+        degrees[vertex] = 0;
+        removedVertices.set(vertex);
+        removedVertexCount++;
+        endBatch();
+    }
+
+    /**
+     * Check if a vertex was removed with {@link #tombstoneVertex(int)} and not compacted yet.
+     * @param vertex the vertex
+     * @return true if the vertex is removed
+     */
+    public boolean isRemoved(int vertex) {
+        return removedVertices.get(vertex);
+    }
+
+    /**
+     * {@return the number of removed vertices waiting for {@link #compact()}}
+     */
+    public int getRemovedVertexNb() {
+        return removedVertexCount;
+    }
+
+    /**
+     * Drop every removed vertex and renumber the others in one pass over the graph.
+     * The returned table gives the new index of every old vertex, or -1 for a
+     * removed one, so that callers can translate the indices they keep (start and
+     * end points, paths).
+     * @return the old-to-new index table, also available through {@link #getLastRemap()}
+     */
+    public int[] compact() {
+        int[] remap = new int[vertexCount];
+        int next = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            remap[v] = removedVertices.get(v) ? -1 : next++;
+        }
+        if (removedVertexCount > 0) {
+            int[][] remainingAdjacency = new int[next][];
+            int[] remainingDegrees = new int[next];
+            for (int v = 0; v < vertexCount; v++) {
+                if (remap[v] < 0) continue;
+                int[] neighbours = adjacency[v];
+                for (int i = 0; i < degrees[v]; i++) {
+                    neighbours[i] = remap[neighbours[i]];
                 }
+                remainingAdjacency[remap[v]] = neighbours;
+                remainingDegrees[remap[v]] = degrees[v];
             }
+            beginBatch();
+            // Highest first, so that replaying the records one by one gives the same numbering
+            for (int v = removedVertices.length() - 1; v >= 0; v = removedVertices.previousSetBit(v - 1)) {
+                record(Operation.REMOVE_VERTEX, v, -1);
+            }
+            adjacency = remainingAdjacency;
+            degrees = remainingDegrees;
+            vertexCount = next;
+            removedVertices.clear();
+            removedVertexCount = 0;
+            // Passage keys depend on the vertex numbers
+            passageHashValid = false;
+            this.layoutChanged = true;
+            endBatch();
         }
+        this.lastRemap = remap;
+        return remap;
     }
+
+    /**
+     * {@return the old-to-new index table of the last {@link #compact()}, or null if none happened}
+     */
+    public int[] getLastRemap() {
+        return lastRemap;
+    }
+
     /**
      * Clear the graph when asked
      */
     public void clearGraph() {
-        for (ArrayList<Edges> edges : graphMaze) {
-            edges.clear();
+        this.layoutChanged = true;
+        this.passageHash = 0;
+        this.passageHashValid = true;
+        if (grid != null) {
+            grid.clear();
+        } else {
+            Arrays.fill(adjacency, NO_NEIGHBOURS);
+            Arrays.fill(degrees, 0);
+            edgeCount = 0;
+        }
+        record(Operation.CLEAR, -1, -1);
+    }
+
+    /**
+     * Return a 64-bit hash of the passages and dimensions of the maze, the same
+     * for two graphs holding the same passages whatever the order they were
+     * added in. It is the XOR of a pseudo-random key per passage, so edits keep
+     * it up to date in O(1); it is only recomputed after {@link #compact()} or
+     * on the first call for a graph built in one go. Suitable as a cache or
+     * dedupe key, not as a cryptographic digest.
+     * @return the content hash
+     */
+    public long contentHash() {
+        if (!passageHashValid) {
+            passageHash = computePassageHash();
+            passageHashValid = true;
         }
-        edgeCount = 0;
+        return dimensionKey(rows, columns) ^ passageHash;
+    }
+
+    /**
+     * Compute the content hash of a list of passages, as {@link #contentHash()}
+     * would for a graph holding them. Repeated passages count once.
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param edges the packed passages
+     * @return the content hash
+     */
+    static long contentHash(int rows, int columns, EdgeBuffer edges) {
+        long[] passages = edges.toArray();
+        for (int i = 0; i < passages.length; i++) {
+            int source = Edges.sourceOf(passages[i]);
+            int destination = Edges.destinationOf(passages[i]);
+            passages[i] = Edges.pack(Math.min(source, destination), Math.max(source, destination));
+        }
+        Arrays.sort(passages);
+        long hash = dimensionKey(rows, columns);
+        for (int i = 0; i < passages.length; i++) {
+            if (i == 0 || passages[i] != passages[i - 1]) {
+                hash ^= passageKey(Edges.sourceOf(passages[i]), Edges.destinationOf(passages[i]));
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * XOR the keys of every passage currently stored, counting each passage once.
+     * @return the passage part of the content hash
+     */
+    private long computePassageHash() {
+        long hash = 0;
+        if (grid != null) {
+            long cellCount = grid.getCellCount();
+            for (long cell = 0; cell < cellCount; cell++) {
+                if (grid.isEastOpen(cell)) {
+                    hash ^= passageKey(cell, cell + 1);
+                }
+                if (grid.isSouthOpen(cell)) {
+                    hash ^= passageKey(cell, cell + columns);
+                }
+            }
+            return hash;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            int[] neighbours = adjacency[v];
+            for (int i = 0; i < degrees[v]; i++) {
+                int neighbour = neighbours[i];
+                if (neighbour > v && !containsBefore(neighbours, i, neighbour)) {
+                    hash ^= passageKey(v, neighbour);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Check if a neighbour appears in the first positions of an adjacency array.
+     */
+    private static boolean containsBefore(int[] neighbours, int end, int neighbour) {
+        for (int i = 0; i < end; i++) {
+            if (neighbours[i] == neighbour) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the pseudo-random key of a passage, the same in both directions.
+     * Loops have no key, as they are not maze passages.
+     * @param source first vertex
+     * @param destination second vertex
+     * @return the key of the passage
+     */
+    static long passageKey(long source, long destination) {
+        if (source == destination) {
+            return 0;
+        }
+        return mix(mix(Math.min(source, destination)) ^ Math.max(source, destination));
+    }
+
+    static long dimensionKey(int rows, int columns) {
+        return mix(~Edges.pack(rows, columns));
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads the bits of a value over the whole word.
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
@@ -184,17 +594,120 @@ public class Graph {
      * @return the edge count
      */
     public int getEdgesNb() {
+        if (grid != null) {
+            return grid.getEdgesNb();
+        }
         return this.edgeCount;
     }
 
     /**
      * Give the number of vertex
      * @return a new graph with news dimensions
+     * @throws ArithmeticException if the maze has more than 2^31 - 1 cells, see {@link #getCellCount()}
      */
     public int getVertexNb() {
+        if (isLongIndexed()) {
+            throw new ArithmeticException("Maze of " + getCellCount() + " cells, use getCellCount()");
+        }
         return this.vertexCount;
     }
 
+    /**
+     * {@return the number of cells, for mazes of any size}
+     */
+    public long getCellCount() {
+        return grid != null ? grid.getCellCount() : vertexCount;
+    }
+
+    /**
+     * {@return the number of passages, for mazes of any size}
+     */
+    public long getPassageCount() {
+        return grid != null ? grid.getPassageCount() : edgeCount;
+    }
+
+    /**
+     * Check if the maze has more cells than int indices can address. Such a
+     * maze is always backed by a {@link GridMaze} and must be used through the
+     * long-indexed methods ({@link #getCellCount()}, {@link #hasEdge(long, long)},
+     * {@link #addEdge(long, long)}, {@link #removeEdge(long, long)}) and solvers
+     * implementing {@link LongMazeSolver}.
+     * @return true if some cells have an index above {@link Integer#MAX_VALUE}
+     */
+    public boolean isLongIndexed() {
+        return getCellCount() > Integer.MAX_VALUE;
+    }
+
+    /**
+     * Return the grid storage of a compact graph.
+     * @return the storage, or null if the passages are stored in adjacency lists
+     */
+    public GridMaze getGrid() {
+        return grid;
+    }
+
+    /**
+     * Check if there is a passage between two cells given by long indices.
+     * @param source starting cell
+     * @param destination destination cell
+     * @return true if the two cells are linked
+     */
+    public boolean hasEdge(long source, long destination) {
+        if (grid != null) {
+            return grid.hasEdge(source, destination);
+        }
+        return hasEdge(Math.toIntExact(source), Math.toIntExact(destination));
+    }
+
+    /**
+     * Add a passage between two cells given by long indices. Passages between
+     * cells beyond int indices are written to the grid storage directly: they
+     * are not journaled nor published in snapshots, which need int indices.
+     * @param source first cell
+     * @param destination second cell
+     */
+    public void addEdge(long source, long destination) {
+        if (source > Integer.MAX_VALUE || destination > Integer.MAX_VALUE) {
+            requireGrid(source, destination);
+            boolean open = grid.hasEdge(source, destination);
+            grid.addEdge(source, destination);
+            if (!open) {
+                passageHash ^= passageKey(source, destination);
+            }
+            return;
+        }
+        addEdge(Math.toIntExact(source), Math.toIntExact(destination));
+    }
+
+    /**
+     * Remove a passage between two cells given by long indices, see {@link #addEdge(long, long)}.
+     * @param source first cell
+     * @param destination second cell
+     */
+    public void removeEdge(long source, long destination) {
+        if (source > Integer.MAX_VALUE || destination > Integer.MAX_VALUE) {
+            requireGrid(source, destination);
+            if (grid.hasEdge(source, destination)) {
+                passageHash ^= passageKey(source, destination);
+            }
+            grid.removeEdge(source, destination);
+            return;
+        }
+        removeEdge(Math.toIntExact(source), Math.toIntExact(destination));
+    }
+
+    /**
+     * Check that cells beyond int indices can be addressed, which only a grid storage allows.
+     * @param source first cell
+     * @param destination second cell
+     */
+    private void requireGrid(long source, long destination) {
+        if (grid == null) {
+            long vertex = source > Integer.MAX_VALUE ? source : destination;
+            throw new IllegalArgumentException("Invalid vertex: " + vertex + ". Must be between 0 and " + (vertexCount - 1));
+        }
+    }
+
     /**
      * Get the numbers of rows on the graph
      * @return the number of rows
@@ -217,16 +730,242 @@ public class Graph {
      * @param destination
      */
     public void addEdge(int source, int destination) {
-        this.graphMaze.get(source).add(new Edges(source, destination));
-        this.graphMaze.get(destination).add(new Edges(destination, source));
-        this.edgeCount++;
+        addEdgeBidirectional(source, destination);
+    }
+
+    /**
+     * Return an immutable CSR snapshot of the adjacency, for solver hot loops.
+     * It is the flattened form of {@link #snapshot()}, so it is only rebuilt
+     * after the graph has been modified through {@link #addEdge(int, int)},
+     * {@link #removeEdge(int, int)}, {@link #clearGraph()} or {@link #removeVertex(int)}.
+     * Since it publishes the pending edits, only the editing thread may call it;
+     * other threads freeze {@link #getPublishedSnapshot()} instead.
+     * @return the snapshot of the current graph
+     */
+    public FrozenGraph freeze() {
+        return snapshot().freeze();
+    }
+
+    /**
+     * Return an immutable CSR snapshot laid out in the internal order of a
+     * {@link VertexOrdering}, such as {@link VertexOrdering#morton(int, int)},
+     * for solvers that work on internal indices to improve memory locality.
+     * Translate start, end and path vertices with {@link FrozenGraph#toInternal(int)}
+     * and {@link FrozenGraph#toPublic(int)}.
+     * @param ordering the ordering of the vertices
+     * @return the reordered snapshot of the current graph
+     */
+    public FrozenGraph freeze(VertexOrdering ordering) {
+        return snapshot().freeze(ordering);
+    }
+
+    /**
+     * Publish the pending edits as a new {@link GraphSnapshot} and return it.
+     * Must be called by the thread editing the graph (the FX thread), typically
+     * after an edit or before handing the graph to a background task. Only the
+     * blocks touched since the previous version are rebuilt.
+     * @return the latest snapshot, the same instance if nothing changed
+     */
+    public GraphSnapshot snapshot() {
+        GraphSnapshot current = published.get();
+        if (current != null && !layoutChanged && dirtyBlocks.isEmpty()) {
+            return current;
+        }
+        return publish();
+    }
+
+    /**
+     * Return the latest published snapshot without publishing pending edits.
+     * Safe to call from any thread, without locking.
+     * @return the latest snapshot, or null if none was published yet
+     */
+    public GraphSnapshot getPublishedSnapshot() {
+        return published.get();
+    }
+
+    /**
+     * Record that the blocks holding two vertices must be rebuilt on the next publication.
+     * @param source first vertex
+     * @param destination second vertex
+     */
+    private void markDirty(int source, int destination) {
+        int blockVertices = GraphSnapshot.blockVerticesFor(columns);
+        dirtyBlocks.set(source / blockVertices);
+        dirtyBlocks.set(destination / blockVertices);
+    }
+
+    /**
+     * Build the next snapshot, reusing the clean blocks of the previous one.
+     * @return the new snapshot
+     */
+    private synchronized GraphSnapshot publish() {
+        if (isLongIndexed()) {
+            throw new UnsupportedOperationException("Snapshots need int indices, the maze has " + getCellCount() + " cells");
+        }
+        GraphSnapshot previous = published.get();
+        int blockVertices = GraphSnapshot.blockVerticesFor(columns);
+        int blockCount = (vertexCount + blockVertices - 1) / blockVertices;
+        boolean reuse = previous != null && !layoutChanged
+                && previous.getVertexNb() == vertexCount
+                && previous.getBlockVertices() == blockVertices;
+        GraphSnapshot.Block[] blocks = new GraphSnapshot.Block[blockCount];
+        for (int b = 0; b < blockCount; b++) {
+            if (reuse && !dirtyBlocks.get(b)) {
+                blocks[b] = previous.block(b);
+            } else {
+                blocks[b] = buildBlock(b * blockVertices, Math.min(vertexCount, (b + 1) * blockVertices));
+            }
+        }
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+        GraphSnapshot next = new GraphSnapshot(version, vertexCount, getEdgesNb(), rows, columns, blockVertices, blocks);
+        dirtyBlocks.clear();
+        layoutChanged = false;
+        published.set(next);
+        return next;
     }
 
     /**
+     * Lay out the adjacency of a range of vertices in CSR form: one pass to count
+     * the degrees, one pass to fill the targets.
+     * @param from first vertex of the block
+     * @param to vertex after the last one of the block
+     * @return the new block
+     */
+    private GraphSnapshot.Block buildBlock(int from, int to) {
+        int size = to - from;
+        int[] offsets = new int[size + 1];
+        if (grid != null) {
+            int[] neighbours = new int[4];
+            for (int v = from; v < to; v++) {
+                offsets[v - from + 1] = offsets[v - from] + grid.getNeighbours(v, neighbours);
+            }
+            int[] targets = new int[offsets[size]];
+            for (int v = from; v < to; v++) {
+                grid.getNeighbours(v, neighbours);
+                System.arraycopy(neighbours, 0, targets, offsets[v - from], offsets[v - from + 1] - offsets[v - from]);
+            }
+            return new GraphSnapshot.Block(offsets, targets);
+        }
+        for (int v = from; v < to; v++) {
+            offsets[v - from + 1] = offsets[v - from] + degrees[v];
+        }
+        int[] targets = new int[offsets[size]];
+        for (int v = from; v < to; v++) {
+            System.arraycopy(adjacency[v], 0, targets, offsets[v - from], degrees[v]);
+        }
+        return new GraphSnapshot.Block(offsets, targets);
+    }
+
+    /**
+     * Append a mutation to the journal and notify the listeners, unless a batch is open.
+     * @param operation the mutation
+     * @param source first vertex
+     * @param destination second vertex, or -1
+     */
+    private void record(Operation operation, int source, int destination) {
+        journal.append(operation, source, destination);
+        if (batchDepth == 0) {
+            notifyListeners();
+        }
+    }
+
+    /**
+     * Send the mutations not yet notified to every listener, as one delta.
+     */
+    private void notifyListeners() {
+        if (notifiedVersion == journal.getVersion()) {
+            return;
+        }
+        if (changeListeners.isEmpty()) {
+            notifiedVersion = journal.getVersion();
+            return;
+        }
+        GraphDelta delta = journal.since(notifiedVersion);
+        notifiedVersion = delta.getToVersion();
+        for (GraphChangeListener listener : changeListeners) {
+            listener.graphChanged(this, delta);
+        }
+    }
+
+    /**
+     * Start grouping mutations: listeners are notified once, by the matching
+     * {@link #endBatch()}. Batches can be nested.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Close a batch opened by {@link #beginBatch()} and notify the listeners
+     * when the outermost batch ends.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        batchDepth--;
+        if (batchDepth == 0) {
+            notifyListeners();
+        }
+    }
+
+    /**
+     * Register a listener notified after every edit (or batch of edits).
+     * @param listener the listener to add
+     */
+    public void addChangeListener(GraphChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener.
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(GraphChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Return the mutation journal, for consumers that pull the changes since a
+     * version they remember instead of registering a listener.
+     * @return the journal of this graph
+     */
+    public GraphJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Check if there is a passage between two vertices
+     * @param source starting vertex
+     * @param destination destination vertex
+     * @return true if the two vertices are linked
+     */
+    public boolean hasEdge(int source, int destination) {
+        if (grid != null) {
+            return grid.hasEdge(source, destination);
+        }
+        int[] neighbours = adjacency[source];
+        for (int i = 0; i < degrees[source]; i++) {
+            if (neighbours[i] == destination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the adjacency list representation.
+     * The lists are rebuilt on every call, so changes made to them are not
+     * reflected in the graph: prefer {@link #getEdges(int)},
+     * {@link #hasEdge(int, int)}, {@link #addEdge(int, int)} and {@link #removeEdge(int, int)}.
      * {@return the graph Maze adjacency list representation}
      */
     public ArrayList<ArrayList<Edges>> getGraphMaze() {
-        return this.graphMaze;
+        ArrayList<ArrayList<Edges>> lists = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            lists.add(getEdges(i));
+        }
+        return lists;
     }
 
     @Override
@@ -235,19 +974,20 @@ public class Graph {
 
         sb.append(String.format("Maze %dx%d\n", rows, columns));
         sb.append(String.format("Vertex number: %d\n", vertexCount));
-        sb.append(String.format("Edge number : %d\n\n", edgeCount));
+        sb.append(String.format("Edge number : %d\n\n", getEdgesNb()));
         sb.append("Graph structure :\n");
         sb.append("---------------------\n");
 
-        for (int i = 0; i < graphMaze.size(); i++) {
+        for (int i = 0; i < vertexCount; i++) {
             int row = i / columns;
             int col = i % columns;
             sb.append(String.format("Vertices %2d (%d,%d) : ", i, row, col));
 
-            if (graphMaze.get(i).isEmpty()) {
+            ArrayList<Edges> edges = getEdges(i);
+            if (edges.isEmpty()) {
                 sb.append("(no connection)");
             } else {
-                for (Edges edge : graphMaze.get(i)) {
+                for (Edges edge : edges) {
                     int destRow = edge.getDestination() / columns;
                     int destCol = edge.getDestination() % columns;
                     sb.append(String.format("→ %2d (%d,%d) ", edge.getDestination(), destRow, destCol));
@@ -260,7 +1000,9 @@ public class Graph {
     }
 
     /**
-     * Défine the current generator
+     * Défine the default generator, used by the constructors that do not take one.
+     * Prefer {@link #Graph(int, int, int, MazeGenerator)} when several mazes
+     * may be generated at the same time.
      * @param generator
      */
     public static void setGenerator(MazeGenerator generator) {
@@ -268,13 +1010,21 @@ public class Graph {
     }
 
     /**
-     * Return the current generator
-     * @return the current generator used for the maze
+     * Return the default generator
+     * @return the generator used when none is given
      */
     public static MazeGenerator getCurrentGenerator() {
         return currentGenerator;
     }
 
+    /**
+     * Return the generator this maze was generated with
+     * @return the generator, or null if the graph was not generated
+     */
+    public MazeGenerator getGenerator() {
+        return generator;
+    }
+
     /**
      * Get the seed value used for generating this maze.
      * 
@@ -296,25 +1046,36 @@ public class Graph {
 
     /**
      * Return all the edges contains on the array list
+     * @return every passage once
      */
     public ArrayList<Edges> getEdges() {
-        ArrayList<Edges> edgesList = new ArrayList<>();
-        boolean[][] seen = new boolean[vertexCount][vertexCount];
-
-        for (int u = 0; u < graphMaze.size(); u++) {
-            for (Edges edge : graphMaze.get(u)) {
-                int v = edge.getDestination();
-                if (!seen[u][v] && !seen[v][u]) {
-                    edgesList.add(edge);
-                    seen[u][v] = true;
-                    seen[v][u] = true;
-                }
-            }
+        if (grid != null) {
+            return grid.getEdges();
         }
-
+        ArrayList<Edges> edgesList = new ArrayList<>();
+        uniqueEdges().forEach(edge -> edgesList.add(new Edges(Edges.sourceOf(edge), Edges.destinationOf(edge))));
         return edgesList;
     }
 
+    /**
+     * Stream every passage once, packed with {@link Edges#pack(int, int)} from the
+     * lower to the higher vertex. The stream walks the CSR form of {@link #freeze()}:
+     * if edits are pending, they are published first, which rebuilds the dirty
+     * blocks and flattens the snapshot into an O(V + E) copy; otherwise the cached
+     * copy is reused and walking it needs no extra memory. Like {@link #freeze()},
+     * it must be called by the editing thread. The stream can be made
+     * {@code parallel()} for very large mazes.
+     * @return a sequential stream of packed passages
+     * @throws ArithmeticException if the maze has more than 2^31 - 1 cells, whose
+     *         passages cannot be packed; read them from {@link #getGrid()} instead
+     */
+    public LongStream uniqueEdges() {
+        if (isLongIndexed()) {
+            throw new ArithmeticException("Maze of " + getCellCount() + " cells, read the passages from getGrid()");
+        }
+        return StreamSupport.longStream(new UniqueEdgeSpliterator(freeze()), false);
+    }
+
     /**
      * Returns all edges (connections) adjacent to the specified vertex.
      * This method finds all edges where the specified vertex is either the source
@@ -330,11 +1091,18 @@ public class Graph {
             throw new IllegalArgumentException("Invalid vertex: " + vertex + ". Must be between 0 and " + (vertexCount - 1));
         }
         
+        if (grid != null) {
+            return grid.getEdges(vertex);
+        }
+
         // Create a new ArrayList to store all neighboring edges
-        ArrayList<Edges> neighborEdges = new ArrayList<>();
+        int[] neighbours = adjacency[vertex];
+        ArrayList<Edges> neighborEdges = new ArrayList<>(degrees[vertex]);
         
         // Add all edges where the specified vertex is the source
-        neighborEdges.addAll(graphMaze.get(vertex));
+        for (int i = 0; i < degrees[vertex]; i++) {
+            neighborEdges.add(new Edges(vertex, neighbours[i]));
+        }
         
         // Return the list of neighboring edges
         return neighborEdges;
@@ -346,13 +1114,24 @@ public class Graph {
      * @param destination destination vertex
      */
     public void removeEdge(int source, int destination) {
-        // Remove edge from source to destination
-        graphMaze.get(source).removeIf(e -> e.getDestination() == destination);
-        
-        // Remove edge from destination to source (since graph is undirected)
-        graphMaze.get(destination).removeIf(e -> e.getDestination() == source);
+        markDirty(source, destination);
+        if (grid != null) {
+            if (grid.hasEdge(source, destination)) {
+                passageHash ^= passageKey(source, destination);
+            }
+            grid.removeEdge(source, destination);
+        } else {
+            // Remove edge from source to destination
+            if (removeNeighbour(source, destination) > 0) {
+                passageHash ^= passageKey(source, destination);
+            }
 
-        edgeCount--;
+            // Remove edge from destination to source (since graph is undirected)
+            removeNeighbour(destination, source);
+
+            edgeCount--;
+        }
+        record(Operation.REMOVE_EDGE, source, destination);
     }
 
 }
@@ -0,0 +1,129 @@
+package org.mazeApp.model;
+
+import java.util.stream.LongStream;
+
+/**
+ * Builds a {@link Graph} in one go from a complete set of passages.
+ * <p>
+ * Instead of growing the adjacency of every vertex edge by edge, the builder
+ * counts the degrees in a first pass over the passages and fills exactly-sized
+ * neighbour arrays in a second pass. Neighbours end up in the same order as if
+ * the passages had been added one by one with {@link Graph#addEdge(int, int)}.
+ * </p>
+ * <pre>{@code
+ * Graph graph = new GraphBuilder(rows, columns)
+ *         .seed(seed)
+ *         .edges(generator.generatePacked(rows, columns, seed))
+ *         .build();
+ * }</pre>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class GraphBuilder {
+
+    private final int rows;
+    private final int columns;
+    private int seed;
+    private EdgeBuffer edges = new EdgeBuffer(0);
+
+    /**
+     * Starts a graph of the given dimensions, without any passage.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public GraphBuilder(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze of " + rows + "x" + columns
+                    + " cells is too large for adjacency lists, use Graph.fromGrid with a GridMaze");
+        }
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Sets the seed recorded in the graph.
+     *
+     * @param seed the seed
+     * @return this builder
+     */
+    public GraphBuilder seed(int seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the passages of the graph. The buffer is read by {@link #build()}, not copied.
+     *
+     * @param edges the packed passages, also kept as the generation steps
+     * @return this builder
+     */
+    public GraphBuilder edges(EdgeBuffer edges) {
+        this.edges = edges;
+        return this;
+    }
+
+    /**
+     * Sets the passages of the graph from a stream of packed passages.
+     *
+     * @param edges the packed passages
+     * @return this builder
+     */
+    public GraphBuilder edges(LongStream edges) {
+        EdgeBuffer buffer = new EdgeBuffer();
+        edges.forEachOrdered(buffer::addPacked);
+        this.edges = buffer;
+        return this;
+    }
+
+    /**
+     * Lays out the passages and creates the graph.
+     *
+     * @return a new graph
+     * @throws IllegalArgumentException if a passage refers to a vertex outside the grid
+     */
+    public Graph build() {
+        int vertexCount = rows * columns;
+        return new Graph(rows, columns, seed, layout(vertexCount, edges), edges.size(), edges);
+    }
+
+    /**
+     * Lays out passages as exactly-sized neighbour arrays, one per vertex.
+     *
+     * @param vertexCount number of vertices
+     * @param edges the packed passages
+     * @return the neighbours of each vertex, in insertion order
+     * @throws IllegalArgumentException if a passage refers to a vertex outside the graph
+     */
+    static int[][] layout(int vertexCount, EdgeBuffer edges) {
+        int edgeNb = edges.size();
+        int[] degrees = new int[vertexCount];
+        for (int i = 0; i < edgeNb; i++) {
+            long edge = edges.get(i);
+            int source = Edges.sourceOf(edge);
+            int destination = Edges.destinationOf(edge);
+            if (source < 0 || destination < 0 || source >= vertexCount || destination >= vertexCount) {
+                throw new IllegalArgumentException("Invalid edge: " + source + " -> " + destination);
+            }
+            degrees[source]++;
+            degrees[destination]++;
+        }
+
+        int[][] adjacency = new int[vertexCount][];
+        for (int v = 0; v < vertexCount; v++) {
+            adjacency[v] = degrees[v] == 0 ? Graph.NO_NEIGHBOURS : new int[degrees[v]];
+            degrees[v] = 0; // Reused as the fill position
+        }
+        for (int i = 0; i < edgeNb; i++) {
+            long edge = edges.get(i);
+            int source = Edges.sourceOf(edge);
+            int destination = Edges.destinationOf(edge);
+            adjacency[source][degrees[source]++] = destination;
+            adjacency[destination][degrees[destination]++] = source;
+        }
+        return adjacency;
+    }
+}
@@ -0,0 +1,24 @@
+package org.mazeApp.model;
+
+/**
+ * Receives the mutations of a {@link Graph} as batched deltas.
+ * <p>
+ * Listeners are called on the thread editing the graph, once per edit or once
+ * per batch (see {@link Graph#beginBatch()}), so renderers, caches and
+ * statistics can be updated in proportion to the changes instead of the size
+ * of the maze.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface GraphChangeListener {
+
+    /**
+     * Called after the graph has been modified.
+     *
+     * @param graph the modified graph
+     * @param delta the mutations since the previous notification
+     */
+    void graphChanged(Graph graph, GraphDelta delta);
+}
@@ -0,0 +1,109 @@
+package org.mazeApp.model;
+
+import org.mazeApp.model.GraphJournal.Operation;
+
+/**
+ * Batch of consecutive mutations of a {@link Graph}, read from its {@link GraphJournal}.
+ * <p>
+ * Record {@code i} has version {@code getFromVersion() + 1 + i}. A delta is
+ * incomplete when the journal overwrote records the consumer had not read
+ * yet; it then holds no record and the consumer must rebuild from the graph.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class GraphDelta {
+
+    private final long fromVersion;
+    private final long toVersion;
+    private final Operation[] operations;
+    private final int[] sources;
+    private final int[] destinations;
+    private final boolean complete;
+
+    GraphDelta(long fromVersion, long toVersion, Operation[] operations,
+               int[] sources, int[] destinations, boolean complete) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.operations = operations;
+        this.sources = sources;
+        this.destinations = destinations;
+        this.complete = complete;
+    }
+
+    /**
+     * {@return the version the delta starts after}
+     */
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    /**
+     * {@return the version of the last mutation covered by the delta}
+     */
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    /**
+     * {@return false if records were lost and the consumer must rebuild from the graph}
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * {@return the number of records}
+     */
+    public int size() {
+        return operations.length;
+    }
+
+    /**
+     * Returns the operation of a record.
+     *
+     * @param index index of the record
+     * @return the operation
+     */
+    public Operation getOperation(int index) {
+        return operations[index];
+    }
+
+    /**
+     * Returns the first vertex of a record.
+     *
+     * @param index index of the record
+     * @return the source vertex
+     */
+    public int getSource(int index) {
+        return sources[index];
+    }
+
+    /**
+     * Returns the second vertex of a record.
+     *
+     * @param index index of the record
+     * @return the destination vertex, or -1 for {@link Operation#CLEAR} and {@link Operation#REMOVE_VERTEX}
+     */
+    public int getDestination(int index) {
+        return destinations[index];
+    }
+
+    /**
+     * Checks if the delta cannot be applied edge by edge: some records were lost,
+     * or the graph was cleared or renumbered.
+     *
+     * @return true if the consumer should rebuild from the graph
+     */
+    public boolean requiresFullRefresh() {
+        if (!complete) {
+            return true;
+        }
+        for (Operation operation : operations) {
+            if (operation == Operation.CLEAR || operation == Operation.REMOVE_VERTEX) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
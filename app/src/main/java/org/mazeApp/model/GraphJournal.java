@@ -0,0 +1,119 @@
+package org.mazeApp.model;
+
+/**
+ * Fixed-size ring buffer recording the mutations of a {@link Graph}.
+ * <p>
+ * Every {@code addEdge}, {@code removeEdge}, {@code clearGraph} and
+ * {@code removeVertex} appends a compact record (operation, two vertices) and
+ * increments the journal version. Incremental consumers remember the last
+ * version they processed and ask for the records after it with
+ * {@link #since(long)}; once more records than the capacity have been written,
+ * older versions are lost and the consumer has to rebuild from the graph.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class GraphJournal {
+
+    /** Default number of records kept. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Kind of mutation recorded.
+     */
+    public enum Operation {
+        /** A passage was opened between the two vertices. */
+        ADD_EDGE,
+        /** The passage between the two vertices was closed. */
+        REMOVE_EDGE,
+        /** Every passage was closed; the vertices are unused. */
+        CLEAR,
+        /** The source vertex was removed and the following ones renumbered. */
+        REMOVE_VERTEX
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final int mask;
+    private final byte[] operations;
+    private final int[] sources;
+    private final int[] destinations;
+    private long version;
+
+    /**
+     * Creates an empty journal.
+     *
+     * @param capacity minimum number of records kept, rounded up to a power of two
+     */
+    public GraphJournal(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid journal capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.operations = new byte[size];
+        this.sources = new int[size];
+        this.destinations = new int[size];
+        this.version = 0;
+    }
+
+    /**
+     * Appends a record, overwriting the oldest one if the journal is full.
+     *
+     * @param operation the mutation
+     * @param source first vertex
+     * @param destination second vertex, or -1 if the operation has none
+     * @return the version of the new record
+     */
+    long append(Operation operation, int source, int destination) {
+        int slot = (int) (version & mask);
+        operations[slot] = (byte) operation.ordinal();
+        sources[slot] = source;
+        destinations[slot] = destination;
+        return ++version;
+    }
+
+    /**
+     * {@return the version of the last record, 0 if nothing was recorded}
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * {@return the number of records the journal can hold}
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the records written after a given version.
+     *
+     * @param fromVersion the last version already processed by the caller
+     * @return the records in order, or an incomplete delta if some were overwritten
+     */
+    public GraphDelta since(long fromVersion) {
+        long count = version - fromVersion;
+        if (count <= 0) {
+            return new GraphDelta(version, version, new Operation[0], new int[0], new int[0], true);
+        }
+        if (count > getCapacity() || fromVersion < 0) {
+            return new GraphDelta(fromVersion, version, new Operation[0], new int[0], new int[0], false);
+        }
+        int size = (int) count;
+        Operation[] ops = new Operation[size];
+        int[] src = new int[size];
+        int[] dst = new int[size];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) ((fromVersion + i) & mask);
+            ops[i] = OPERATIONS[operations[slot]];
+            src[i] = sources[slot];
+            dst[i] = destinations[slot];
+        }
+        return new GraphDelta(fromVersion, version, ops, src, dst, true);
+    }
+}
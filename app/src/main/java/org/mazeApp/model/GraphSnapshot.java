@@ -0,0 +1,248 @@
+package org.mazeApp.model;
+
+import java.util.function.IntConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable, versioned view of a {@link Graph} that can be read from any thread.
+ * <p>
+ * The adjacency is cut into blocks of {@link #BLOCK_ROWS} rows, each block laid
+ * out in CSR form. When the graph is edited, the next snapshot only rebuilds
+ * the blocks containing a modified vertex and shares the others with the
+ * previous snapshot, so publishing a version after a click costs a few rows
+ * instead of the whole maze.
+ * </p>
+ * <p>
+ * Snapshots are published by {@link Graph#snapshot()} and read without locking
+ * through {@link Graph#getPublishedSnapshot()}: solvers, exporters and renderers
+ * keep working on the version they picked while the user edits the next one.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class GraphSnapshot {
+
+    /** Number of grid rows stored in one block. */
+    public static final int BLOCK_ROWS = 16;
+
+    private final long version;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final int rows;
+    private final int columns;
+    private final int blockVertices;
+    private final Block[] blocks;
+    private volatile FrozenGraph frozen;
+    private volatile FrozenGraph reordered;
+
+    /**
+     * CSR adjacency of a contiguous range of vertices. Offsets are relative to
+     * the first vertex of the block.
+     */
+    static final class Block {
+        final int[] offsets;
+        final int[] targets;
+
+        Block(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+    }
+
+    GraphSnapshot(long version, int vertexCount, int edgeCount, int rows, int columns,
+                  int blockVertices, Block[] blocks) {
+        this.version = version;
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.rows = rows;
+        this.columns = columns;
+        this.blockVertices = blockVertices;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Returns the number of vertices stored in a block for a given grid width.
+     *
+     * @param columns number of columns of the grid
+     * @return the block size in vertices
+     */
+    static int blockVerticesFor(int columns) {
+        return BLOCK_ROWS * Math.max(1, columns);
+    }
+
+    Block block(int index) {
+        return blocks[index];
+    }
+
+    int getBlockVertices() {
+        return blockVertices;
+    }
+
+    /**
+     * {@return the version of this snapshot, increasing with every publication}
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * {@return the number of vertices}
+     */
+    public int getVertexNb() {
+        return vertexCount;
+    }
+
+    /**
+     * {@return the number of edges when the snapshot was taken}
+     */
+    public int getEdgesNb() {
+        return edgeCount;
+    }
+
+    /**
+     * {@return the number of rows}
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * {@return the number of columns}
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * {@return the number of blocks}
+     */
+    public int getBlockCount() {
+        return blocks.length;
+    }
+
+    /**
+     * Returns the number of neighbours of a vertex.
+     *
+     * @param vertex the vertex
+     * @return its degree
+     */
+    public int degree(int vertex) {
+        Block block = blocks[vertex / blockVertices];
+        int local = vertex % blockVertices;
+        return block.offsets[local + 1] - block.offsets[local];
+    }
+
+    /**
+     * Calls an action for every neighbour of a vertex, in the graph order.
+     *
+     * @param vertex the vertex
+     * @param action the action receiving each neighbour
+     */
+    public void forEachNeighbour(int vertex, IntConsumer action) {
+        Block block = blocks[vertex / blockVertices];
+        int local = vertex % blockVertices;
+        for (int i = block.offsets[local]; i < block.offsets[local + 1]; i++) {
+            action.accept(block.targets[i]);
+        }
+    }
+
+    /**
+     * Checks if there is a passage between two vertices.
+     *
+     * @param source starting vertex
+     * @param destination destination vertex
+     * @return true if the two vertices are linked
+     */
+    public boolean hasEdge(int source, int destination) {
+        Block block = blocks[source / blockVertices];
+        int local = source % blockVertices;
+        for (int i = block.offsets[local]; i < block.offsets[local + 1]; i++) {
+            if (block.targets[i] == destination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the whole adjacency as a single CSR array pair, for solver hot
+     * loops. It is built on the first call and then cached.
+     *
+     * @return the flattened snapshot
+     */
+    public FrozenGraph freeze() {
+        FrozenGraph result = frozen;
+        if (result == null) {
+            int[] offsets = new int[vertexCount + 1];
+            int total = 0;
+            for (Block block : blocks) {
+                total += block.targets.length;
+            }
+            int[] targets = new int[total];
+            int vertex = 0;
+            int position = 0;
+            for (Block block : blocks) {
+                int blockSize = block.offsets.length - 1;
+                for (int local = 0; local < blockSize; local++) {
+                    offsets[vertex + local + 1] = position + block.offsets[local + 1];
+                }
+                System.arraycopy(block.targets, 0, targets, position, block.targets.length);
+                position += block.targets.length;
+                vertex += blockSize;
+            }
+            result = new FrozenGraph(offsets, targets);
+            frozen = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the whole adjacency in CSR form laid out in the internal order of a
+     * vertex ordering, built directly from the blocks. The last reordered
+     * adjacency is cached.
+     *
+     * @param ordering the ordering, covering the same number of vertices
+     * @return the reordered snapshot, indexed by internal indices
+     * @throws IllegalArgumentException if the ordering does not cover this snapshot
+     */
+    public FrozenGraph freeze(VertexOrdering ordering) {
+        if (ordering.getVertexNb() != vertexCount) {
+            throw new IllegalArgumentException("Ordering of " + ordering.getVertexNb()
+                    + " vertices for a graph of " + vertexCount);
+        }
+        FrozenGraph result = reordered;
+        if (result != null && result.getOrdering().equals(ordering)) {
+            return result;
+        }
+        int size = ordering.getInternalSize();
+        int[] offsets = new int[size + 1];
+        for (int internal = 0; internal < size; internal++) {
+            int vertex = ordering.toPublic(internal);
+            offsets[internal + 1] = offsets[internal] + (vertex < 0 ? 0 : degree(vertex));
+        }
+        int[] targets = new int[offsets[size]];
+        for (int internal = 0; internal < size; internal++) {
+            int vertex = ordering.toPublic(internal);
+            if (vertex < 0) continue;
+            Block block = blocks[vertex / blockVertices];
+            int local = vertex % blockVertices;
+            int position = offsets[internal];
+            for (int i = block.offsets[local]; i < block.offsets[local + 1]; i++) {
+                targets[position++] = ordering.toInternal(block.targets[i]);
+            }
+        }
+        result = new FrozenGraph(offsets, targets, ordering);
+        reordered = result;
+        return result;
+    }
+
+    /**
+     * Stream every passage once, packed with {@link Edges#pack(int, int)}.
+     *
+     * @return a sequential stream of packed passages
+     */
+    public LongStream uniqueEdges() {
+        return StreamSupport.longStream(new UniqueEdgeSpliterator(freeze()), false);
+    }
+}
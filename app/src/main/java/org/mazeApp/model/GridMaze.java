@@ -0,0 +1,373 @@
+package org.mazeApp.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Compact storage of a rectangular grid maze.
+ * <p>
+ * Each cell only stores two flags: whether the passage to its east neighbour
+ * is open and whether the passage to its south neighbour is open. West and
+ * north passages are read from the neighbouring cells, so every passage is
+ * stored exactly once. The flags are packed in a {@code long[]} (2 bits per
+ * cell), which makes a 10 000 x 10 000 maze fit in about 25 MB.
+ * </p>
+ * <p>
+ * Only passages between orthogonally adjacent cells can be represented.
+ * Cells are addressed row-major; the {@code long} overloads accept mazes of
+ * more than {@link Integer#MAX_VALUE} cells, the {@code int} ones are kept for
+ * the {@link Graph} facade and the solvers.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class GridMaze {
+
+    /** Offset of the "east passage open" flag inside the two bits of a cell. */
+    protected static final int EAST = 0;
+    /** Offset of the "south passage open" flag inside the two bits of a cell. */
+    protected static final int SOUTH = 1;
+
+    private final int rows;
+    private final int columns;
+    private final long cellCount;
+    private final long[] bits;
+    private long edgeCount;
+
+    /**
+     * Creates a grid maze where every wall is present.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public GridMaze(int rows, int columns) {
+        this(rows, columns, true);
+    }
+
+    /**
+     * Creates a grid maze, optionally without its on-heap bit array.
+     * Subclasses that store the flags elsewhere pass {@code false} and
+     * override {@link #readBit(long)}, {@link #writeBit(long, boolean)} and {@link #clear()}.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param allocate true to allocate the on-heap bit array
+     */
+    protected GridMaze(int rows, int columns, boolean allocate) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cellCount = (long) rows * columns;
+        this.edgeCount = 0;
+        this.bits = allocate ? new long[Math.toIntExact(wordCount())] : null;
+    }
+
+    /**
+     * {@return the number of 64-bit words needed to store the flags of every cell}
+     */
+    protected final long wordCount() {
+        return (2 * cellCount + 63) >>> 6;
+    }
+
+    /**
+     * Reads one flag.
+     *
+     * @param bit index of the flag ({@code 2 * cell + direction})
+     * @return true if the flag is set
+     */
+    protected boolean readBit(long bit) {
+        return (bits[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Writes one flag.
+     *
+     * @param bit index of the flag ({@code 2 * cell + direction})
+     * @param value new value of the flag
+     */
+    protected void writeBit(long bit, boolean value) {
+        int word = (int) (bit >>> 6);
+        if (value) {
+            bits[word] |= 1L << bit;
+        } else {
+            bits[word] &= ~(1L << bit);
+        }
+    }
+
+    /**
+     * Overrides the passage counter, for subclasses that load existing flags.
+     *
+     * @param edgeCount number of open passages
+     */
+    protected void setPassageCount(long edgeCount) {
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Returns the index of the flag storing the passage between two adjacent cells.
+     *
+     * @param source first cell
+     * @param destination second cell
+     * @return the flag index, or -1 if the cells are not orthogonal neighbours
+     */
+    private long flagOf(long source, long destination) {
+        long low = Math.min(source, destination);
+        long high = Math.max(source, destination);
+        if (low < 0 || high >= cellCount) {
+            return -1;
+        }
+        if (high - low == 1 && high % columns != 0) {
+            return 2 * low + EAST;
+        }
+        if (high - low == columns) {
+            return 2 * low + SOUTH;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a passage is open between two cells.
+     *
+     * @param source first cell
+     * @param destination second cell
+     * @return true if both cells are adjacent and the passage between them is open
+     */
+    public boolean hasEdge(long source, long destination) {
+        long flag = flagOf(source, destination);
+        return flag >= 0 && readBit(flag);
+    }
+
+    /**
+     * Checks if a passage is open between two cells.
+     *
+     * @param source first cell
+     * @param destination second cell
+     * @return true if both cells are adjacent and the passage between them is open
+     */
+    public boolean hasEdge(int source, int destination) {
+        return hasEdge((long) source, (long) destination);
+    }
+
+    /**
+     * Opens the passage between two adjacent cells.
+     * Opening an already open passage does nothing.
+     *
+     * @param source first cell
+     * @param destination second cell
+     * @throws IllegalArgumentException if the cells are not orthogonal neighbours
+     */
+    public void addEdge(long source, long destination) {
+        long flag = flagOf(source, destination);
+        if (flag < 0) {
+            throw new IllegalArgumentException("Cells " + source + " and " + destination + " are not adjacent");
+        }
+        if (!readBit(flag)) {
+            writeBit(flag, true);
+            edgeCount++;
+        }
+    }
+
+    /**
+     * Opens the passage between two adjacent cells.
+     * Opening an already open passage does nothing.
+     *
+     * @param source first cell
+     * @param destination second cell
+     * @throws IllegalArgumentException if the cells are not orthogonal neighbours
+     */
+    public void addEdge(int source, int destination) {
+        addEdge((long) source, (long) destination);
+    }
+
+    /**
+     * Closes the passage between two cells if it is open.
+     *
+     * @param source first cell
+     * @param destination second cell
+     */
+    public void removeEdge(long source, long destination) {
+        long flag = flagOf(source, destination);
+        if (flag >= 0 && readBit(flag)) {
+            writeBit(flag, false);
+            edgeCount--;
+        }
+    }
+
+    /**
+     * Closes the passage between two cells if it is open.
+     *
+     * @param source first cell
+     * @param destination second cell
+     */
+    public void removeEdge(int source, int destination) {
+        removeEdge((long) source, (long) destination);
+    }
+
+    /**
+     * Closes every passage.
+     */
+    public void clear() {
+        if (bits != null) {
+            Arrays.fill(bits, 0L);
+        } else {
+            long flags = 2 * cellCount;
+            for (long bit = 0; bit < flags; bit++) {
+                writeBit(bit, false);
+            }
+        }
+        edgeCount = 0;
+    }
+
+    /**
+     * Checks if the passage to the east neighbour of a cell is open.
+     *
+     * @param cell the cell
+     * @return true if the east passage is open
+     */
+    public boolean isEastOpen(long cell) {
+        return readBit(2 * cell + EAST);
+    }
+
+    /**
+     * Checks if the passage to the south neighbour of a cell is open.
+     *
+     * @param cell the cell
+     * @return true if the south passage is open
+     */
+    public boolean isSouthOpen(long cell) {
+        return readBit(2 * cell + SOUTH);
+    }
+
+    /**
+     * Writes the open neighbours of a cell into a buffer, without allocating.
+     * Neighbours are reported in the order east, south, west, north.
+     *
+     * @param vertex the cell
+     * @param neighbours buffer of at least 4 entries
+     * @return the number of neighbours written
+     */
+    public int getNeighbours(long vertex, long[] neighbours) {
+        int count = 0;
+        long col = vertex % columns;
+        if (col < columns - 1 && readBit(2 * vertex + EAST)) {
+            neighbours[count++] = vertex + 1;
+        }
+        if (vertex + columns < cellCount && readBit(2 * vertex + SOUTH)) {
+            neighbours[count++] = vertex + columns;
+        }
+        if (col > 0 && readBit(2 * (vertex - 1) + EAST)) {
+            neighbours[count++] = vertex - 1;
+        }
+        if (vertex >= columns && readBit(2 * (vertex - columns) + SOUTH)) {
+            neighbours[count++] = vertex - columns;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the open neighbours of a cell into a buffer, without allocating.
+     * Neighbours are reported in the order east, south, west, north.
+     *
+     * @param vertex the cell
+     * @param neighbours buffer of at least 4 entries
+     * @return the number of neighbours written
+     */
+    public int getNeighbours(int vertex, int[] neighbours) {
+        int count = 0;
+        int col = vertex % columns;
+        if (col < columns - 1 && readBit(2L * vertex + EAST)) {
+            neighbours[count++] = vertex + 1;
+        }
+        if (vertex + columns < cellCount && readBit(2L * vertex + SOUTH)) {
+            neighbours[count++] = vertex + columns;
+        }
+        if (col > 0 && readBit(2L * (vertex - 1) + EAST)) {
+            neighbours[count++] = vertex - 1;
+        }
+        if (vertex >= columns && readBit(2L * (vertex - columns) + SOUTH)) {
+            neighbours[count++] = vertex - columns;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the open passages of a cell as edges starting from this cell.
+     *
+     * @param vertex the cell
+     * @return a new list of edges
+     */
+    public ArrayList<Edges> getEdges(int vertex) {
+        int[] neighbours = new int[4];
+        int count = getNeighbours(vertex, neighbours);
+        ArrayList<Edges> edges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            edges.add(new Edges(vertex, neighbours[i]));
+        }
+        return edges;
+    }
+
+    /**
+     * Returns every open passage once, from the lower to the higher cell index.
+     *
+     * @return a new list of edges
+     */
+    public ArrayList<Edges> getEdges() {
+        ArrayList<Edges> edges = new ArrayList<>(getEdgesNb());
+        int vertexCount = getVertexNb();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (readBit(2L * vertex + EAST)) {
+                edges.add(new Edges(vertex, vertex + 1));
+            }
+            if (readBit(2L * vertex + SOUTH)) {
+                edges.add(new Edges(vertex, vertex + columns));
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * {@return the number of open passages}
+     * @throws ArithmeticException if the count does not fit in an {@code int}
+     */
+    public int getEdgesNb() {
+        return Math.toIntExact(edgeCount);
+    }
+
+    /**
+     * {@return the number of open passages, for mazes of any size}
+     */
+    public long getPassageCount() {
+        return edgeCount;
+    }
+
+    /**
+     * {@return the number of cells}
+     * @throws ArithmeticException if the maze has more than {@link Integer#MAX_VALUE} cells
+     */
+    public int getVertexNb() {
+        return Math.toIntExact(cellCount);
+    }
+
+    /**
+     * {@return the number of cells, for mazes of any size}
+     */
+    public long getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * {@return the number of rows}
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * {@return the number of columns}
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
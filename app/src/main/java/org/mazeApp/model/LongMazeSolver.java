@@ -0,0 +1,41 @@
+package org.mazeApp.model;
+
+/**
+ * Solving algorithm able to work on mazes addressed with {@code long} cell
+ * indices, including mazes of more than 2^31 cells.
+ * <p>
+ * This is the long-indexed counterpart of {@link MazeSolver#findPath(int, int)}:
+ * the passages are read in place from a {@link GridMaze} and the path is
+ * returned as an array of cell indices.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public interface LongMazeSolver {
+
+    /**
+     * Finds a path between two cells of a grid storage.
+     *
+     * @param maze the maze storage
+     * @param start the starting cell index
+     * @param end the ending cell index
+     * @return the cells from start to end, or an empty array if end cannot be reached
+     */
+    long[] findPath(GridMaze maze, long start, long end);
+
+    /**
+     * Finds a path between two cells of a compact graph.
+     *
+     * @param graph a graph backed by a {@link GridMaze}
+     * @param start the starting cell index
+     * @param end the ending cell index
+     * @return the cells from start to end, or an empty array if end cannot be reached
+     * @throws IllegalArgumentException if the graph stores its passages in adjacency lists
+     */
+    default long[] findPath(Graph graph, long start, long end) {
+        if (graph.getGrid() == null) {
+            throw new IllegalArgumentException("Long-indexed solving needs a graph backed by a GridMaze");
+        }
+        return findPath(graph.getGrid(), start, end);
+    }
+}
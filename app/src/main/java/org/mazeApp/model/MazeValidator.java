@@ -0,0 +1,274 @@
+package org.mazeApp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks the integrity of a maze in one pass over its passages.
+ * <p>
+ * Every passage is checked (both cells inside the grid, cells side by side, not
+ * seen before) and merged in a union-find over the cells, so the validator can
+ * tell in linear time whether the maze is connected and perfect (a spanning
+ * tree: connected with exactly V - 1 passages). Duplicates are found with two
+ * bits per cell (east and south passage already seen) instead of a hash set.
+ * </p>
+ * <pre>{@code
+ * MazeValidator.Report report = MazeValidator.validate(rows, columns, edges);
+ * if (!report.isValid()) {
+ *     System.out.println(report);
+ * }
+ * }</pre>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class MazeValidator {
+
+    /** Number of malformed passages kept in a report by default. */
+    public static final int DEFAULT_MAX_REPORTED = 10;
+
+    /**
+     * Kind of problem found on a passage.
+     */
+    public enum Problem {
+        /** One of the cells is outside the grid. */
+        OUT_OF_RANGE,
+        /** The two cells are not side by side. */
+        NOT_ADJACENT,
+        /** The passage links a cell to itself. */
+        LOOP,
+        /** The passage was already given. */
+        DUPLICATE
+    }
+
+    /**
+     * Result of a validation.
+     */
+    public static final class Report {
+        private final int vertexCount;
+        private final int passageCount;
+        private final int componentCount;
+        private final int malformedCount;
+        private final EdgeBuffer malformedEdges;
+        private final List<Problem> problems;
+
+        Report(int vertexCount, int passageCount, int componentCount, int malformedCount,
+               EdgeBuffer malformedEdges, List<Problem> problems) {
+            this.vertexCount = vertexCount;
+            this.passageCount = passageCount;
+            this.componentCount = componentCount;
+            this.malformedCount = malformedCount;
+            this.malformedEdges = malformedEdges;
+            this.problems = problems;
+        }
+
+        /**
+         * {@return the number of cells}
+         */
+        public int getVertexNb() {
+            return vertexCount;
+        }
+
+        /**
+         * {@return the number of well-formed passages, each counted once}
+         */
+        public int getPassageNb() {
+            return passageCount;
+        }
+
+        /**
+         * {@return the number of connected components, isolated cells included}
+         */
+        public int getComponentNb() {
+            return componentCount;
+        }
+
+        /**
+         * {@return true if every cell can be reached from every other}
+         */
+        public boolean isConnected() {
+            return componentCount <= 1;
+        }
+
+        /**
+         * {@return true if there is exactly one path between any two cells}
+         */
+        public boolean isPerfect() {
+            return isValid() && isConnected() && passageCount == Math.max(0, vertexCount - 1);
+        }
+
+        /**
+         * {@return true if no malformed passage was found}
+         */
+        public boolean isValid() {
+            return malformedCount == 0;
+        }
+
+        /**
+         * {@return the total number of malformed passages, including those not kept in the report}
+         */
+        public int getMalformedNb() {
+            return malformedCount;
+        }
+
+        /**
+         * {@return the first malformed passages, as given}
+         */
+        public EdgeBuffer getMalformedEdges() {
+            return malformedEdges;
+        }
+
+        /**
+         * Returns the problem found on a reported passage.
+         *
+         * @param index position in {@link #getMalformedEdges()}
+         * @return the problem
+         */
+        public Problem getProblem(int index) {
+            return problems.get(index);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%d cells, %d passages, %d components, %s%n",
+                    vertexCount, passageCount, componentCount, isPerfect() ? "perfect" : "not perfect"));
+            if (malformedCount > 0) {
+                sb.append(String.format("%d malformed passages:%n", malformedCount));
+                for (int i = 0; i < malformedEdges.size(); i++) {
+                    sb.append(String.format("  %d - %d : %s%n",
+                            malformedEdges.sourceAt(i), malformedEdges.destinationAt(i), problems.get(i)));
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private MazeValidator() {
+    }
+
+    /**
+     * Validates the passages of a graph, as stored (duplicates included).
+     *
+     * @param graph the graph to check
+     * @return the report
+     */
+    public static Report validate(Graph graph) {
+        FrozenGraph frozen = graph.freeze();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        EdgeBuffer edges = new EdgeBuffer(targets.length / 2);
+        for (int v = 0; v < frozen.getVertexNb(); v++) {
+            int loops = 0;
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                // Each passage is stored in both directions, a loop twice in the same list
+                if (targets[i] > v || (targets[i] == v && (loops++ & 1) == 0)) {
+                    edges.add(v, targets[i]);
+                }
+            }
+        }
+        return validate(graph.getRows(), graph.getColumns(), edges);
+    }
+
+    /**
+     * Validates a list of passages, keeping the first {@link #DEFAULT_MAX_REPORTED} problems.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param edges the packed passages
+     * @return the report
+     */
+    public static Report validate(int rows, int columns, EdgeBuffer edges) {
+        return validate(rows, columns, edges, DEFAULT_MAX_REPORTED);
+    }
+
+    /**
+     * Validates a list of passages.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param edges the packed passages
+     * @param maxReported number of malformed passages kept in the report
+     * @return the report
+     */
+    public static Report validate(int rows, int columns, EdgeBuffer edges, int maxReported) {
+        int vertexCount = Math.multiplyExact(rows, columns);
+        int[] parent = new int[vertexCount];
+        byte[] rank = new byte[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            parent[v] = v;
+        }
+        // Bit 2v: passage v - v+1 seen, bit 2v+1: passage v - v+columns seen
+        long[] seen = new long[(int) ((2L * vertexCount + 63) >>> 6)];
+
+        int components = vertexCount;
+        int passages = 0;
+        int malformed = 0;
+        EdgeBuffer malformedEdges = new EdgeBuffer(0);
+        List<Problem> problems = new ArrayList<>();
+
+        for (int i = 0; i < edges.size(); i++) {
+            long edge = edges.get(i);
+            int source = Edges.sourceOf(edge);
+            int destination = Edges.destinationOf(edge);
+            int low = Math.min(source, destination);
+            int high = Math.max(source, destination);
+
+            Problem problem = null;
+            long bit = -1;
+            if (low < 0 || high >= vertexCount) {
+                problem = Problem.OUT_OF_RANGE;
+            } else if (low == high) {
+                problem = Problem.LOOP;
+            } else if (high - low == columns) {
+                bit = 2L * low + 1;
+            } else if (high - low == 1 && high % columns != 0) {
+                bit = 2L * low;
+            } else {
+                problem = Problem.NOT_ADJACENT;
+            }
+            if (problem == null) {
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((seen[word] & mask) != 0) {
+                    problem = Problem.DUPLICATE;
+                } else {
+                    seen[word] |= mask;
+                }
+            }
+            if (problem != null) {
+                if (malformed++ < maxReported) {
+                    malformedEdges.addPacked(edge);
+                    problems.add(problem);
+                }
+                continue;
+            }
+
+            passages++;
+            int rootLow = find(parent, low);
+            int rootHigh = find(parent, high);
+            if (rootLow != rootHigh) {
+                components--;
+                if (rank[rootLow] < rank[rootHigh]) {
+                    parent[rootLow] = rootHigh;
+                } else if (rank[rootLow] > rank[rootHigh]) {
+                    parent[rootHigh] = rootLow;
+                } else {
+                    parent[rootHigh] = rootLow;
+                    rank[rootLow]++;
+                }
+            }
+        }
+        return new Report(vertexCount, passages, components, malformed, malformedEdges, problems);
+    }
+
+    /**
+     * Finds the root of a cell, halving the path on the way.
+     */
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+}
@@ -0,0 +1,125 @@
+package org.mazeApp.model;
+
+/**
+ * Z-order (Morton) {@link VertexOrdering}: the bits of the row and column are
+ * interleaved, so that every aligned square of {@code 2^k x 2^k} cells is
+ * contiguous in memory and a vertical move stays within a few cache lines
+ * instead of jumping a whole row.
+ * <p>
+ * Grids that are not square are cut into squares whose side is the smallest
+ * power of two covering the short side, laid out one after the other along
+ * the long side. The padding cells of the last square and of the short side
+ * are unused internal indices.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class MortonOrdering implements VertexOrdering {
+
+    private final int rows;
+    private final int columns;
+    private final boolean wide;
+    // Squares have a side of 1 << bits cells
+    private final int bits;
+    private final int localMask;
+    private final int internalSize;
+
+    /**
+     * Creates the ordering of a grid.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws ArithmeticException if the internal indices do not fit in an int
+     */
+    public MortonOrdering(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.wide = columns >= rows;
+        int shortSide = Math.min(rows, columns);
+        int longSide = Math.max(rows, columns);
+        this.bits = shortSide <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(shortSide - 1);
+        this.localMask = (1 << bits) - 1;
+        long squares = ((long) longSide + localMask) >>> bits;
+        this.internalSize = Math.toIntExact(squares << (2 * bits));
+    }
+
+    @Override
+    public int toInternal(int vertex) {
+        int row = vertex / columns;
+        int col = vertex - row * columns;
+        if (wide) {
+            return ((col >>> bits) << (2 * bits)) | spread(col & localMask) | (spread(row) << 1);
+        }
+        return ((row >>> bits) << (2 * bits)) | spread(col) | (spread(row & localMask) << 1);
+    }
+
+    @Override
+    public int toPublic(int internal) {
+        int square = internal >>> (2 * bits);
+        int local = internal & ((1 << (2 * bits)) - 1);
+        int col = compress(local);
+        int row = compress(local >>> 1);
+        if (wide) {
+            col |= square << bits;
+        } else {
+            row |= square << bits;
+        }
+        if (row >= rows || col >= columns) {
+            return -1;
+        }
+        return row * columns + col;
+    }
+
+    @Override
+    public int getVertexNb() {
+        return rows * columns;
+    }
+
+    @Override
+    public int getInternalSize() {
+        return internalSize;
+    }
+
+    /**
+     * Spreads the 16 low bits of a value to the even bits of the result.
+     */
+    private static int spread(int value) {
+        value &= 0xFFFF;
+        value = (value | (value << 8)) & 0x00FF00FF;
+        value = (value | (value << 4)) & 0x0F0F0F0F;
+        value = (value | (value << 2)) & 0x33333333;
+        value = (value | (value << 1)) & 0x55555555;
+        return value;
+    }
+
+    /**
+     * Gathers the even bits of a value, inverse of {@link #spread(int)}.
+     */
+    private static int compress(int value) {
+        value &= 0x55555555;
+        value = (value | (value >>> 1)) & 0x33333333;
+        value = (value | (value >>> 2)) & 0x0F0F0F0F;
+        value = (value | (value >>> 4)) & 0x00FF00FF;
+        value = (value | (value >>> 8)) & 0x0000FFFF;
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof MortonOrdering ordering
+                && ordering.rows == rows && ordering.columns == columns;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rows + columns;
+    }
+
+    @Override
+    public String toString() {
+        return "Morton " + rows + "x" + columns;
+    }
+}
@@ -0,0 +1,146 @@
+package org.mazeApp.model;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link GridMaze} whose flags live outside the Java heap, in a {@link MemorySegment}.
+ * <p>
+ * The segment is either allocated from an {@link Arena} or mapped from a file,
+ * so mazes of billions of cells are neither limited by the maximum Java array
+ * size nor scanned by the garbage collector. The memory stays valid as long as
+ * the arena is open; closing this maze closes the arena only if it was created
+ * by this class.
+ * </p>
+ * <p>
+ * The long-indexed methods of {@link GridMaze} must be used for mazes of more
+ * than {@link Integer#MAX_VALUE} cells.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class OffHeapGridMaze extends GridMaze implements AutoCloseable {
+
+    private final MemorySegment segment;
+    private final Arena arena;
+    private final boolean ownsArena;
+
+    /**
+     * Allocates a maze where every wall is present in a new confined arena,
+     * released by {@link #close()}.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public OffHeapGridMaze(int rows, int columns) {
+        this(rows, columns, Arena.ofConfined(), true);
+    }
+
+    /**
+     * Allocates a maze where every wall is present in the given arena.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param arena the arena owning the memory
+     */
+    public OffHeapGridMaze(int rows, int columns, Arena arena) {
+        this(rows, columns, arena, false);
+    }
+
+    private OffHeapGridMaze(int rows, int columns, Arena arena, boolean ownsArena) {
+        super(rows, columns, false);
+        this.arena = arena;
+        this.ownsArena = ownsArena;
+        this.segment = arena.allocate(wordCount() * Long.BYTES, Long.BYTES);
+        this.segment.fill((byte) 0);
+    }
+
+    private OffHeapGridMaze(int rows, int columns, MemorySegment segment, Arena arena) {
+        super(rows, columns, false);
+        this.arena = arena;
+        this.ownsArena = false;
+        this.segment = segment;
+        long passages = 0;
+        long words = wordCount();
+        for (long word = 0; word < words; word++) {
+            passages += Long.bitCount(segment.getAtIndex(ValueLayout.JAVA_LONG, word));
+        }
+        setPassageCount(passages);
+    }
+
+    /**
+     * Maps a maze onto a file. The file is created if needed and grown to the
+     * required size; passages already stored in it are kept. The mapping stays
+     * valid until the arena is closed.
+     *
+     * @param file the backing file
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param arena the arena controlling the lifetime of the mapping
+     * @return the file-backed maze
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static OffHeapGridMaze mapFile(Path file, int rows, int columns, Arena arena) throws IOException {
+        long bytes = ((2L * rows * columns + 63) >>> 6) * Long.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes, arena);
+            return new OffHeapGridMaze(rows, columns, segment, arena);
+        }
+    }
+
+    @Override
+    protected boolean readBit(long bit) {
+        return (segment.getAtIndex(ValueLayout.JAVA_LONG, bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    @Override
+    protected void writeBit(long bit, boolean value) {
+        long word = bit >>> 6;
+        long current = segment.getAtIndex(ValueLayout.JAVA_LONG, word);
+        long updated = value ? current | (1L << bit) : current & ~(1L << bit);
+        segment.setAtIndex(ValueLayout.JAVA_LONG, word, updated);
+    }
+
+    @Override
+    public void clear() {
+        segment.fill((byte) 0);
+        setPassageCount(0);
+    }
+
+    /**
+     * Returns the raw segment holding the flags (bit {@code 2 * cell} is the east
+     * passage of the cell, bit {@code 2 * cell + 1} its south passage).
+     *
+     * @return the backing segment
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Writes pending changes of a file-backed maze to the storage device.
+     * Does nothing for a maze allocated in memory.
+     */
+    public void force() {
+        if (segment.isMapped()) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Releases the memory if the arena was created by this maze.
+     * A maze allocated from a caller-provided arena is released with that arena.
+     */
+    @Override
+    public void close() {
+        if (ownsArena) {
+            arena.close();
+        }
+    }
+}
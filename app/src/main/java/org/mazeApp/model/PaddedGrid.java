@@ -0,0 +1,244 @@
+package org.mazeApp.model;
+
+/**
+ * Grid of cells surrounded by a one-cell sentinel border, for hot loops that
+ * walk the maze cell by cell.
+ * <p>
+ * A cell at {@code (row, col)} is stored at {@code (row + 1) * stride + col + 1}
+ * with {@code stride = columns + 2}, so its four neighbours are reached by
+ * adding an entry of {@link #getOffsets()} ({@code +1, +stride, -1, -stride})
+ * and a move never needs a division, a modulo or a bounds check: stepping out
+ * of the maze lands on a border cell, which {@link #isBorder(int)} reports and
+ * which has no passage.
+ * </p>
+ * <p>
+ * Each cell holds one bit per direction, set when the passage on that side is
+ * open. Directions are numbered clockwise from {@link #RIGHT}.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class PaddedGrid {
+
+    /** Direction of the next column. */
+    public static final int RIGHT = 0;
+    /** Direction of the next row. */
+    public static final int DOWN = 1;
+    /** Direction of the previous column. */
+    public static final int LEFT = 2;
+    /** Direction of the previous row. */
+    public static final int UP = 3;
+
+    private static final byte BORDER = 1 << 4;
+
+    private final int rows;
+    private final int columns;
+    private final int stride;
+    // Bits 0 to 3: open sides, bit 4: border cell
+    private final byte[] cells;
+    private final int[] offsets;
+    private final int[] vertexOffsets;
+
+    /**
+     * Creates a grid where every passage is closed.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public PaddedGrid(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = columns + 2;
+        this.cells = new byte[Math.multiplyExact(rows + 2, stride)];
+        this.offsets = new int[] {1, stride, -1, -stride};
+        this.vertexOffsets = new int[] {1, columns, -1, -columns};
+        for (int col = 0; col < stride; col++) {
+            cells[col] = BORDER;
+            cells[cells.length - 1 - col] = BORDER;
+        }
+        for (int row = 1; row <= rows; row++) {
+            cells[row * stride] = BORDER;
+            cells[row * stride + stride - 1] = BORDER;
+        }
+    }
+
+    /**
+     * Copies the passages of a graph between adjacent cells. Passages between
+     * distant cells, which only the graph editor can create, are not kept.
+     *
+     * @param graph the graph to copy
+     * @return a new padded grid
+     */
+    public static PaddedGrid of(Graph graph) {
+        return of(graph.freeze(), graph.getRows(), graph.getColumns());
+    }
+
+    /**
+     * Copies the passages of a row-major snapshot between adjacent cells, for
+     * readers that must not publish the graph themselves, such as the solvers.
+     *
+     * @param frozen the snapshot to copy, in row-major order
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return a new padded grid
+     */
+    public static PaddedGrid of(FrozenGraph frozen, int rows, int columns) {
+        PaddedGrid grid = new PaddedGrid(rows, columns);
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        int vertex = 0;
+        int cell = grid.firstCell();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++, vertex++, cell++) {
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    // Only the right and down sides: the other ones are opened from the neighbour
+                    int delta = targets[i] - vertex;
+                    if (delta == columns && row + 1 < rows) {
+                        grid.open(cell, DOWN);
+                    } else if (delta == 1 && col + 1 < columns) {
+                        grid.open(cell, RIGHT);
+                    }
+                }
+            }
+            cell += 2;
+        }
+        return grid;
+    }
+
+    /**
+     * {@return the direction opposite to another one}
+     *
+     * @param direction the direction
+     */
+    public static int opposite(int direction) {
+        return (direction + 2) & 3;
+    }
+
+    /**
+     * {@return the number of rows, border excluded}
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * {@return the number of columns, border excluded}
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * {@return the distance between two vertically adjacent cells}
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * {@return the number of cells, border included}
+     */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * {@return the padded index of the cell at row 0, column 0}
+     */
+    public int firstCell() {
+        return stride + 1;
+    }
+
+    /**
+     * Returns the offset to add to a padded index to move in each direction.
+     * The array must not be modified.
+     *
+     * @return the offsets, indexed by direction
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the offset to add to a public (row-major) index to move in each
+     * direction, for callers walking both indices side by side. The array must
+     * not be modified.
+     *
+     * @return the offsets, indexed by direction
+     */
+    public int[] getVertexOffsets() {
+        return vertexOffsets;
+    }
+
+    /**
+     * Translates a public (row-major) index to a padded index.
+     *
+     * @param vertex the public index
+     * @return the padded index
+     */
+    public int toPadded(int vertex) {
+        int row = vertex / columns;
+        return (row + 1) * stride + (vertex - row * columns) + 1;
+    }
+
+    /**
+     * Translates a padded index to a public (row-major) index.
+     *
+     * @param cell the padded index of a cell inside the maze
+     * @return the public index
+     */
+    public int toVertex(int cell) {
+        int row = cell / stride - 1;
+        return row * columns + (cell - (row + 1) * stride) - 1;
+    }
+
+    /**
+     * Checks if a padded index is on the sentinel border.
+     *
+     * @param cell the padded index
+     * @return true if the cell is outside the maze
+     */
+    public boolean isBorder(int cell) {
+        return (cells[cell] & BORDER) != 0;
+    }
+
+    /**
+     * Checks if the passage on one side of a cell is open.
+     *
+     * @param cell the padded index
+     * @param direction the side
+     * @return true if the passage is open
+     */
+    public boolean isOpen(int cell, int direction) {
+        return (cells[cell] & (1 << direction)) != 0;
+    }
+
+    /**
+     * Checks if every passage of a cell is closed.
+     *
+     * @param cell the padded index
+     * @return true if the cell has no open side
+     */
+    public boolean isClosed(int cell) {
+        return (cells[cell] & 0xF) == 0;
+    }
+
+    /**
+     * Opens the passage on one side of a cell, on both cells of the passage.
+     *
+     * @param cell the padded index
+     * @param direction the side
+     * @throws IllegalArgumentException if the passage leads to the border
+     */
+    public void open(int cell, int direction) {
+        int neighbour = cell + offsets[direction];
+        if (isBorder(cell) || isBorder(neighbour)) {
+            throw new IllegalArgumentException("No passage from " + cell + " towards the border");
+        }
+        cells[cell] |= (byte) (1 << direction);
+        cells[neighbour] |= (byte) (1 << opposite(direction));
+    }
+}
@@ -0,0 +1,61 @@
+package org.mazeApp.model;
+
+/**
+ * Identity {@link VertexOrdering}: cells are laid out row by row, as in the
+ * public indices.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class RowMajorOrdering implements VertexOrdering {
+
+    private final int rows;
+    private final int columns;
+
+    /**
+     * Creates the ordering of a grid.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public RowMajorOrdering(int rows, int columns) {
+        Math.multiplyExact(rows, columns);
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    @Override
+    public int toInternal(int vertex) {
+        return vertex;
+    }
+
+    @Override
+    public int toPublic(int internal) {
+        return internal;
+    }
+
+    @Override
+    public int getVertexNb() {
+        return rows * columns;
+    }
+
+    @Override
+    public int getInternalSize() {
+        return rows * columns;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RowMajorOrdering ordering
+                && ordering.rows == rows && ordering.columns == columns;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rows + columns;
+    }
+
+    @Override
+    public String toString() {
+        return "row-major " + rows + "x" + columns;
+    }
+}
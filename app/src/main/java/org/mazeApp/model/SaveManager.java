@@ -37,6 +37,8 @@ public class SaveManager {
         private final int rows;
         private final int columns;
         private final ArrayList<Edges> edges; // Nouvelle propriété pour stocker les arêtes
+        private long contentHash;
+        private boolean contentHashValid;
 
         /**
          * Initializes the SaveManager by loading all saved mazes from file.
@@ -80,6 +82,20 @@ public class SaveManager {
         
         public void addEdge(Edges edge) {
             this.edges.add(edge);
+            this.contentHashValid = false;
+        }
+
+        /**
+         * Return the content hash of the saved passages, equal to
+         * {@link Graph#contentHash()} of the graph they build.
+         * @return the content hash, computed on the first call
+         */
+        public long getContentHash() {
+            if (!contentHashValid) {
+                contentHash = Graph.contentHash(rows, columns, EdgeBuffer.fromEdges(edges));
+                contentHashValid = true;
+            }
+            return contentHash;
         }
     }
     
@@ -113,14 +129,36 @@ public class SaveManager {
      * @return the generated maze name, or null if duplicate
      */
     public String saveMaze(int rows, int columns, int seed, ArrayList<Edges> edges) {
+        long contentHash = edges == null ? 0 : Graph.contentHash(rows, columns, EdgeBuffer.fromEdges(edges));
+        return saveMaze(rows, columns, seed, edges, contentHash);
+    }
+
+    /**
+     * Saves a maze unless the same one is already saved. Mazes given by their
+     * seed are compared by seed and dimensions, mazes given by their passages
+     * are compared by content hash, whatever their seed.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param seed generation seed
+     * @param edges list of edges (optional, can be null)
+     * @param contentHash content hash of the edges, ignored if they are null
+     * @return the generated maze name, or null if duplicate
+     */
+    private String saveMaze(int rows, int columns, int seed, ArrayList<Edges> edges, long contentHash) {
         String mazeName = "Maze_" + System.currentTimeMillis(); // Génère un nom unique basé sur l'heure actuelle
         
-        // Vérifie si le labyrinthe existe déjà (uniquement par seed, rows, columns - pas par structure)
         for (SavedMaze savedMaze : savedMazes.values()) {
-            if (savedMaze.getSeed() == seed && savedMaze.getRows() == rows && savedMaze.getColumns() == columns) {
-                if (edges != null) {
-                    continue;
-                }
+            if (savedMaze.getRows() != rows || savedMaze.getColumns() != columns) {
+                continue;
+            }
+            boolean duplicate;
+            if (edges == null) {
+                duplicate = savedMaze.getSeed() == seed;
+            } else {
+                duplicate = !savedMaze.getEdges().isEmpty() && savedMaze.getContentHash() == contentHash;
+            }
+            if (duplicate) {
                 System.out.println("This maze already exists in the file");
                 return null;
             }
@@ -158,17 +196,9 @@ public class SaveManager {
         int seed = graph.getSeed();
         
         ArrayList<Edges> allEdges = new ArrayList<>();
-        ArrayList<ArrayList<Edges>> graphMaze = graph.getGraphMaze();
-        
-        // We don't want to add the same edge twice, so we only add edges where source < destination
-        for (int i = 0; i < graphMaze.size(); i++) {
-            for (Edges edge : graphMaze.get(i)) {
-                if (edge.getSource() < edge.getDestination()) {
-                    allEdges.add(edge);
-                }
-            }
-        }
-        return saveMaze(rows, columns, seed, allEdges);
+        // Each passage is streamed once, from the lower to the higher vertex
+        graph.uniqueEdges().forEach(edge -> allEdges.add(new Edges(Edges.sourceOf(edge), Edges.destinationOf(edge))));
+        return saveMaze(rows, columns, seed, allEdges, graph.contentHash());
     }
 
     /**
@@ -203,7 +233,7 @@ public class SaveManager {
      * Build a graph from a saved maze.
      * 
      * @param mazeName Name of the saved maze
-     * @return The graph built from the saved maze, or null if not found
+     * @return The graph built from the saved maze, or null if not found or corrupted
      * 
      */
     public Graph buildGraph(String mazeName) {
@@ -212,14 +242,17 @@ public class SaveManager {
             System.out.println("Mazes unfoundable: " + mazeName);
             return null;
         }
-        // Otherwise, we need to create a new graph and add the edges manually
-        Graph graph = Graph.emptyGraph(savedMaze.getRows(), savedMaze.getColumns());
-        graph.setSeed(savedMaze.getSeed());
-        
-        for (Edges edge : savedMaze.getEdges()) {
-            graph.addEdge(edge.getSource(), edge.getDestination());
+        EdgeBuffer edges = EdgeBuffer.fromEdges(savedMaze.getEdges());
+        MazeValidator.Report report = MazeValidator.validate(savedMaze.getRows(), savedMaze.getColumns(), edges);
+        if (!report.isValid()) {
+            System.out.println("Corrupted maze " + mazeName + ": " + report);
+            return null;
         }
-        return graph;
+        // Lay out every saved passage at once instead of adding them one by one
+        return new GraphBuilder(savedMaze.getRows(), savedMaze.getColumns())
+                .seed(savedMaze.getSeed())
+                .edges(edges)
+                .build();
     }
     
     /**
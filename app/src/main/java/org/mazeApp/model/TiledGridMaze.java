@@ -0,0 +1,350 @@
+package org.mazeApp.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link GridMaze} paged from a file, for mazes whose walls do not fit in memory.
+ * <p>
+ * The grid is cut into square tiles of {@code tileSize x tileSize} cells. Every
+ * tile stores the 2-bit flags of its cells and has a fixed place in one backing
+ * file. Only the most recently used tiles are kept in memory, within a byte
+ * budget given at construction; modified tiles are written back when they are
+ * evicted, on {@link #flush()} and on {@link #close()}.
+ * </p>
+ * <p>
+ * Tile hits, misses and evictions are counted so the cache can be sized for a
+ * given workload.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class TiledGridMaze extends GridMaze implements AutoCloseable {
+
+    /** Default side of a tile, in cells (16 KB of flags per tile). */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private final int tileSize;
+    private final int tilesPerRow;
+    private final int tileWords;
+    private final long tileBytes;
+    private final int maxResidentTiles;
+    private final FileChannel channel;
+    private final ByteBuffer ioBuffer;
+    private final LinkedHashMap<Long, Tile> residentTiles;
+
+    // Last tile used, to skip the map lookup for consecutive accesses to the same tile
+    private long lastTileId = -1;
+    private Tile lastTile;
+
+    private long tileHits;
+    private long tileMisses;
+    private long tileEvictions;
+
+    /**
+     * In-memory copy of one tile.
+     */
+    private static final class Tile {
+        final long[] words;
+        boolean dirty;
+
+        Tile(int wordCount) {
+            this.words = new long[wordCount];
+        }
+    }
+
+    /**
+     * Opens (or creates) a tiled maze backed by a file. Passages already stored in
+     * the file are kept.
+     *
+     * @param file the backing file
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param tileSize side of a tile in cells
+     * @param cacheBytes memory budget for the resident tiles
+     * @throws IOException if the file cannot be opened or read
+     */
+    public TiledGridMaze(Path file, int rows, int columns, int tileSize, long cacheBytes) throws IOException {
+        super(rows, columns, false);
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Invalid tile size: " + tileSize);
+        }
+        this.tileSize = tileSize;
+        this.tilesPerRow = (columns + tileSize - 1) / tileSize;
+        this.tileWords = (int) ((2L * tileSize * tileSize + 63) >>> 6);
+        this.tileBytes = (long) tileWords * Long.BYTES;
+        this.maxResidentTiles = (int) Math.max(1, Math.min(Integer.MAX_VALUE, cacheBytes / tileBytes));
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.ioBuffer = ByteBuffer.allocateDirect((int) tileBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.residentTiles = new LinkedHashMap<>(16, 0.75f, true);
+        try {
+            setPassageCount(countStoredPassages());
+        } catch (IOException | RuntimeException e) {
+            // The maze is never handed back, so nobody else can close the file
+            try {
+                channel.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens (or creates) a tiled maze with the default tile size.
+     *
+     * @param file the backing file
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param cacheBytes memory budget for the resident tiles
+     * @throws IOException if the file cannot be opened or read
+     */
+    public TiledGridMaze(Path file, int rows, int columns, long cacheBytes) throws IOException {
+        this(file, rows, columns, DEFAULT_TILE_SIZE, cacheBytes);
+    }
+
+    /**
+     * Counts the passages already present in the backing file, one tile at a time.
+     *
+     * @return the number of open passages stored in the file
+     * @throws IOException if the file cannot be read
+     */
+    private long countStoredPassages() throws IOException {
+        long passages = 0;
+        long storedTiles = channel.size() / tileBytes;
+        long[] words = new long[tileWords];
+        for (long tileId = 0; tileId < storedTiles; tileId++) {
+            readTile(tileId, words);
+            for (long word : words) {
+                passages += Long.bitCount(word);
+            }
+        }
+        return passages;
+    }
+
+    @Override
+    protected boolean readBit(long bit) {
+        long cell = bit >>> 1;
+        long local = localBit(cell, bit);
+        Tile tile = tileOf(cell);
+        return (tile.words[(int) (local >>> 6)] & (1L << local)) != 0;
+    }
+
+    @Override
+    protected void writeBit(long bit, boolean value) {
+        long cell = bit >>> 1;
+        long local = localBit(cell, bit);
+        Tile tile = tileOf(cell);
+        int word = (int) (local >>> 6);
+        if (value) {
+            tile.words[word] |= 1L << local;
+        } else {
+            tile.words[word] &= ~(1L << local);
+        }
+        tile.dirty = true;
+    }
+
+    /**
+     * Returns the index of a flag inside the tile holding its cell.
+     *
+     * @param cell the cell
+     * @param bit the global index of the flag
+     * @return the flag index inside the tile
+     */
+    private long localBit(long cell, long bit) {
+        long row = cell / getColumns();
+        long col = cell % getColumns();
+        long local = (row % tileSize) * tileSize + (col % tileSize);
+        return 2 * local + (bit & 1);
+    }
+
+    /**
+     * Returns the resident tile holding a cell, loading it (and evicting the least
+     * recently used tile if the budget is reached) when needed.
+     *
+     * @param cell the cell
+     * @return the tile of the cell
+     */
+    private Tile tileOf(long cell) {
+        long row = cell / getColumns();
+        long col = cell % getColumns();
+        long tileId = (row / tileSize) * tilesPerRow + col / tileSize;
+        if (tileId == lastTileId) {
+            tileHits++;
+            return lastTile;
+        }
+        Tile tile = residentTiles.get(tileId);
+        if (tile != null) {
+            tileHits++;
+        } else {
+            tileMisses++;
+            if (residentTiles.size() >= maxResidentTiles) {
+                evictEldest();
+            }
+            tile = new Tile(tileWords);
+            readTile(tileId, tile.words);
+            residentTiles.put(tileId, tile);
+        }
+        lastTileId = tileId;
+        lastTile = tile;
+        return tile;
+    }
+
+    /**
+     * Evicts the least recently used tile, writing it back if it was modified.
+     */
+    private void evictEldest() {
+        Iterator<Map.Entry<Long, Tile>> iterator = residentTiles.entrySet().iterator();
+        Map.Entry<Long, Tile> eldest = iterator.next();
+        if (eldest.getValue().dirty) {
+            writeTile(eldest.getKey(), eldest.getValue().words);
+        }
+        iterator.remove();
+        tileEvictions++;
+        if (eldest.getKey() == lastTileId) {
+            lastTileId = -1;
+            lastTile = null;
+        }
+    }
+
+    /**
+     * Reads a tile from the file; parts beyond the end of the file are walls.
+     *
+     * @param tileId the tile
+     * @param words destination of the flags
+     */
+    private void readTile(long tileId, long[] words) {
+        try {
+            ioBuffer.clear();
+            long position = tileId * tileBytes;
+            while (ioBuffer.hasRemaining()) {
+                int read = channel.read(ioBuffer, position + ioBuffer.position());
+                if (read < 0) {
+                    break;
+                }
+            }
+            while (ioBuffer.hasRemaining()) {
+                ioBuffer.put((byte) 0);
+            }
+            ioBuffer.flip();
+            ioBuffer.asLongBuffer().get(words);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading tile " + tileId, e);
+        }
+    }
+
+    /**
+     * Writes a tile to its place in the file.
+     *
+     * @param tileId the tile
+     * @param words the flags to write
+     */
+    private void writeTile(long tileId, long[] words) {
+        try {
+            ioBuffer.clear();
+            ioBuffer.asLongBuffer().put(words);
+            long position = tileId * tileBytes;
+            while (ioBuffer.hasRemaining()) {
+                channel.write(ioBuffer, position + ioBuffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while writing tile " + tileId, e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            residentTiles.clear();
+            lastTileId = -1;
+            lastTile = null;
+            channel.truncate(0);
+            setPassageCount(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while clearing the maze file", e);
+        }
+    }
+
+    /**
+     * Writes every modified resident tile back to the file.
+     */
+    public void flush() {
+        for (Map.Entry<Long, Tile> entry : residentTiles.entrySet()) {
+            if (entry.getValue().dirty) {
+                writeTile(entry.getKey(), entry.getValue().words);
+                entry.getValue().dirty = false;
+            }
+        }
+    }
+
+    /**
+     * Flushes the modified tiles and closes the backing file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    /**
+     * {@return the number of accesses served by a resident tile}
+     */
+    public long getTileHits() {
+        return tileHits;
+    }
+
+    /**
+     * {@return the number of accesses that had to load a tile from the file}
+     */
+    public long getTileMisses() {
+        return tileMisses;
+    }
+
+    /**
+     * {@return the number of tiles dropped from memory to respect the budget}
+     */
+    public long getTileEvictions() {
+        return tileEvictions;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public void resetCounters() {
+        tileHits = 0;
+        tileMisses = 0;
+        tileEvictions = 0;
+    }
+
+    /**
+     * {@return the number of tiles currently in memory}
+     */
+    public int getResidentTileCount() {
+        return residentTiles.size();
+    }
+
+    /**
+     * {@return the maximum number of tiles kept in memory}
+     */
+    public int getMaxResidentTiles() {
+        return maxResidentTiles;
+    }
+
+    /**
+     * {@return the side of a tile, in cells}
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+}
@@ -0,0 +1,118 @@
+package org.mazeApp.model;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator yielding every undirected passage of a {@link FrozenGraph} exactly once.
+ * <p>
+ * Each passage is reported from its lower to its higher vertex, packed in a
+ * {@code long} with {@link Edges#pack(int, int)}. Duplicated adjacency entries
+ * are skipped by looking back in the neighbours of the current vertex only, so
+ * no memory proportional to the graph is needed. The vertex range is halved on
+ * {@link #trySplit()}, which lets {@code parallel()} streams walk the passages
+ * of very large mazes.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public final class UniqueEdgeSpliterator implements Spliterator.OfLong {
+
+    private static final int MIN_SPLIT_VERTICES = 1024;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private int vertex;
+    private int index;
+    private final int endVertex;
+
+    /**
+     * Creates a spliterator over every vertex of a snapshot.
+     *
+     * @param frozen the snapshot to walk
+     */
+    public UniqueEdgeSpliterator(FrozenGraph frozen) {
+        this(frozen.getOffsets(), frozen.getTargets(), 0, frozen.getVertexNb());
+    }
+
+    private UniqueEdgeSpliterator(int[] offsets, int[] targets, int fromVertex, int toVertex) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.vertex = fromVertex;
+        this.index = offsets[fromVertex];
+        this.endVertex = toVertex;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        while (vertex < endVertex) {
+            int end = offsets[vertex + 1];
+            while (index < end) {
+                int destination = targets[index++];
+                if (isFirstOccurrence(destination)) {
+                    action.accept(Edges.pack(vertex, destination));
+                    return true;
+                }
+            }
+            vertex++;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (vertex < endVertex) {
+            int end = offsets[vertex + 1];
+            while (index < end) {
+                int destination = targets[index++];
+                if (isFirstOccurrence(destination)) {
+                    action.accept(Edges.pack(vertex, destination));
+                }
+            }
+            vertex++;
+        }
+    }
+
+    /**
+     * Checks that the adjacency entry just read is the first one for its passage:
+     * it must go to a higher (or the same) vertex and not repeat an earlier entry
+     * of the current vertex.
+     *
+     * @param destination the neighbour just read at {@code index - 1}
+     * @return true if the passage must be reported
+     */
+    private boolean isFirstOccurrence(int destination) {
+        if (destination < vertex) {
+            return false;
+        }
+        for (int i = offsets[vertex]; i < index - 1; i++) {
+            if (targets[i] == destination) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        int remaining = endVertex - vertex;
+        if (remaining < 2 * MIN_SPLIT_VERTICES || index != offsets[vertex]) {
+            return null;
+        }
+        int middle = vertex + remaining / 2;
+        UniqueEdgeSpliterator prefix = new UniqueEdgeSpliterator(offsets, targets, vertex, middle);
+        this.vertex = middle;
+        this.index = offsets[middle];
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (offsets[endVertex] - index) / 2;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+}
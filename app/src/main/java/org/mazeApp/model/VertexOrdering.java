@@ -0,0 +1,68 @@
+package org.mazeApp.model;
+
+/**
+ * Bijection between the public vertex indices of a grid ({@code row * columns + col})
+ * and the internal indices used to lay out a {@link FrozenGraph} in memory.
+ * <p>
+ * Solvers that work on the internal indices of a graph frozen with
+ * {@link Graph#freeze(VertexOrdering)} touch cells that are close in the grid
+ * at close memory addresses, whatever the direction of the move. Translations
+ * in both directions cost a few bit operations.
+ * </p>
+ * <p>
+ * The internal index space may be larger than the number of vertices: unused
+ * internal indices map to -1 and hold no neighbour.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public interface VertexOrdering {
+
+    /**
+     * Returns the internal index of a vertex.
+     *
+     * @param vertex the public (row-major) index
+     * @return the internal index
+     */
+    int toInternal(int vertex);
+
+    /**
+     * Returns the public index of an internal index.
+     *
+     * @param internal the internal index
+     * @return the public (row-major) index, or -1 if no vertex uses this internal index
+     */
+    int toPublic(int internal);
+
+    /**
+     * {@return the number of vertices of the grid}
+     */
+    int getVertexNb();
+
+    /**
+     * {@return the number of internal indices, at least the number of vertices}
+     */
+    int getInternalSize();
+
+    /**
+     * Returns the identity ordering, where internal and public indices are equal.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return the row-major ordering
+     */
+    static VertexOrdering rowMajor(int rows, int columns) {
+        return new RowMajorOrdering(rows, columns);
+    }
+
+    /**
+     * Returns a Z-order (Morton) ordering, see {@link MortonOrdering}.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return the Morton ordering
+     */
+    static VertexOrdering morton(int rows, int columns) {
+        return new MortonOrdering(rows, columns);
+    }
+}
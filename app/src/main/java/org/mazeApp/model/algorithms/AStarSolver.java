@@ -1,13 +1,18 @@
 package org.mazeApp.model.algorithms;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
+import org.mazeApp.model.GridMaze;
+import org.mazeApp.model.LongMazeSolver;
 import org.mazeApp.view.GraphView;
 import org.mazeApp.view.MazeView;
 
@@ -20,7 +25,10 @@ import org.mazeApp.view.MazeView;
  * @author Abdellah, Felipe, Jeremy, SHawrov, Melina
  */
 
-public class AStarSolver extends AbstractMazeSolver {
+public class AStarSolver extends AbstractMazeSolver implements LongMazeSolver {
+
+    /** Marker stored for the starting cell of {@link #findPath(GridMaze, long, long)}, which has no parent. */
+    private static final int START_MARK = 5;
 
     /**
      * Default constructor.
@@ -117,8 +125,10 @@ public class AStarSolver extends AbstractMazeSolver {
      * @return a list of steps, each step being a partial path constructed so far
      */
     public ArrayList<ArrayList<Integer>> getAStarSteps(int start, int goal) {
-        int vertexCount = model.getVertexNb();
-        ArrayList<ArrayList<Edges>> adj = model.getGraphMaze();
+        FrozenGraph frozen = frozenModel();
+        int vertexCount = frozen.getVertexNb();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
         
         // Initialization
         PriorityQueue<Node> openSet = new PriorityQueue<>(Comparator.comparingInt(n -> n.fScore));
@@ -130,10 +140,15 @@ public class AStarSolver extends AbstractMazeSolver {
         Arrays.fill(gScore, Integer.MAX_VALUE);
         gScore[start] = 0;
         
+        // Coordinates are computed once for the start and the goal, then followed move by move
+        int columns = model.getColumns();
+        int goalRow = goal / columns;
+        int goalCol = goal % columns;
+
         int[] fScore = new int[vertexCount];
         Arrays.fill(fScore, Integer.MAX_VALUE);
-        fScore[start] = heuristic(start, goal);
-        openSet.add(new Node(start, fScore[start]));
+        fScore[start] = heuristic(start / columns, start % columns, goalRow, goalCol);
+        openSet.add(new Node(start, fScore[start], start / columns, start % columns));
         
         ArrayList<ArrayList<Integer>> steps = new ArrayList<>();
         
@@ -151,15 +166,31 @@ public class AStarSolver extends AbstractMazeSolver {
             
             if (current == goal) break;
             
-            for (Edges edge : adj.get(current)) {
-                int neighbor = edge.getDestination();
+            for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                int neighbor = targets[i];
                 int tentativeG = gScore[current] + 1;
                 
                 if (tentativeG < gScore[neighbor]) {
+                    int delta = neighbor - current;
+                    int row = currentNode.row;
+                    int col = currentNode.col;
+                    if (delta == columns) {
+                        row++;
+                    } else if (delta == -columns) {
+                        row--;
+                    } else if (delta == 1 && col + 1 < columns) {
+                        col++;
+                    } else if (delta == -1 && col > 0) {
+                        col--;
+                    } else {
+                        // Passage between distant cells, added in the graph editor
+                        row = neighbor / columns;
+                        col = neighbor % columns;
+                    }
                     cameFrom[neighbor] = current;
                     gScore[neighbor] = tentativeG;
-                    fScore[neighbor] = gScore[neighbor] + heuristic(neighbor, goal);
-                    openSet.add(new Node(neighbor, fScore[neighbor]));
+                    fScore[neighbor] = gScore[neighbor] + heuristic(row, col, goalRow, goalCol);
+                    openSet.add(new Node(neighbor, fScore[neighbor], row, col));
                 }
             }
         }
@@ -171,17 +202,14 @@ public class AStarSolver extends AbstractMazeSolver {
     /**
      * Heuristic function used by A* (Manhattan distance).
      *
-     * @param a index of the first node
-     * @param b index of the second node
-     * @return the heuristic distance between a and b
+     * @param row row of the node
+     * @param col column of the node
+     * @param goalRow row of the goal
+     * @param goalCol column of the goal
+     * @return the heuristic distance between the node and the goal
      */
-    private int heuristic(int a, int b) {
-        int columns = model.getColumns();
-        int ax = a % columns;
-        int ay = a / columns;
-        int bx = b % columns;
-        int by = b / columns;
-        return Math.abs(ax - bx) + Math.abs(ay - by);
+    private static int heuristic(int row, int col, int goalRow, int goalCol) {
+        return Math.abs(row - goalRow) + Math.abs(col - goalCol);
     }
 
     /**
@@ -226,16 +254,214 @@ public class AStarSolver extends AbstractMazeSolver {
         return new ArrayList<>(finalPath);
     }
 
+    /**
+     * Executes A* directly on a grid storage with long cell indices, for mazes
+     * too large for a {@link Graph} (off-heap or tiled on disk).
+     * <p>
+     * With unit costs and the Manhattan heuristic, a cell is final the first
+     * time it leaves the open set, so only the direction back to its parent is
+     * kept per cell (one off-heap byte). The open set is an off-heap binary heap
+     * whose entries carry the cost so far, instead of a per-cell score array.
+     * </p>
+     *
+     * @param maze the maze storage
+     * @param start the starting cell index
+     * @param end the ending cell index
+     * @return the cells from start to end, or an empty array if end cannot be reached
+     */
+    @Override
+    public long[] findPath(GridMaze maze, long start, long end) {
+        long cellCount = maze.getCellCount();
+        if (start < 0 || end < 0 || start >= cellCount || end >= cellCount) {
+            System.out.println("Start and end point not defined");
+            return new long[0];
+        }
+        long[] path = new long[0];
+        long visited = 0;
+        long begin = System.currentTimeMillis();
+
+        try (Arena scratch = Arena.ofConfined(); NodeHeap openSet = new NodeHeap()) {
+            // 0 = not closed, otherwise 1 + index of the move leading back to the parent
+            MemorySegment cameFrom = scratch.allocate(cellCount);
+            cameFrom.fill((byte) 0);
+            long columns = maze.getColumns();
+            long[] backMoves = {1, columns, -1, -columns};
+            long[] neighbours = new long[4];
+            long goalX = end % columns;
+            long goalY = end / columns;
+
+            openSet.add(gridHeuristic(start, goalX, goalY, columns), 0, start, START_MARK);
+            boolean goalFound = false;
+            while (!openSet.isEmpty()) {
+                long cost = openSet.peekCost();
+                long current = openSet.peekCell();
+                int move = openSet.peekMove();
+                openSet.remove();
+                if (cameFrom.get(ValueLayout.JAVA_BYTE, current) != 0) continue;
+                cameFrom.set(ValueLayout.JAVA_BYTE, current, (byte) move);
+                visited++;
+                if (current == end) {
+                    goalFound = true;
+                    break;
+                }
+                int count = maze.getNeighbours(current, neighbours);
+                for (int i = 0; i < count; i++) {
+                    long neighbour = neighbours[i];
+                    if (cameFrom.get(ValueLayout.JAVA_BYTE, neighbour) != 0) continue;
+                    long back = current - neighbour;
+                    int backMove = back == 1 ? 1 : back == columns ? 2 : back == -1 ? 3 : 4;
+                    long f = cost + 1 + gridHeuristic(neighbour, goalX, goalY, columns);
+                    openSet.add(f, cost + 1, neighbour, backMove);
+                }
+            }
+
+            if (goalFound) {
+                long length = 1;
+                for (long node = end; node != start; length++) {
+                    node += backMoves[cameFrom.get(ValueLayout.JAVA_BYTE, node) - 1];
+                }
+                path = new long[Math.toIntExact(length)];
+                long node = end;
+                for (int i = path.length - 1; i >= 0; i--) {
+                    path[i] = node;
+                    if (i > 0) {
+                        node += backMoves[cameFrom.get(ValueLayout.JAVA_BYTE, node) - 1];
+                    }
+                }
+            } else {
+                System.out.println("No path found");
+            }
+        }
+
+        this.executionTime = System.currentTimeMillis() - begin;
+        this.visitedVerticesNb = (int) Math.min(Integer.MAX_VALUE, visited);
+        System.out.println("A* stats: Visited " + visited + " vertices, path length: " + path.length);
+        return path;
+    }
+
+    /**
+     * Manhattan distance from a cell to the goal, with long indices.
+     *
+     * @param cell the cell
+     * @param goalX column of the goal
+     * @param goalY row of the goal
+     * @param columns number of columns of the maze
+     * @return the heuristic distance
+     */
+    private static long gridHeuristic(long cell, long goalX, long goalY, long columns) {
+        return Math.abs(cell % columns - goalX) + Math.abs(cell / columns - goalY);
+    }
+
+    /**
+     * Binary min-heap of open cells stored off-heap, ordered by estimated total
+     * cost. Each entry holds the estimate, the cost so far and the cell packed
+     * with the move leading back to its parent. The heap doubles when full.
+     */
+    private static final class NodeHeap implements AutoCloseable {
+        private static final int ENTRY_LONGS = 3;
+
+        private Arena arena = Arena.ofConfined();
+        private long capacity = 1 << 16;
+        private MemorySegment buffer = arena.allocate(capacity * ENTRY_LONGS * Long.BYTES, Long.BYTES);
+        private long size = 0;
+
+        void add(long estimate, long cost, long cell, int move) {
+            if (size == capacity) {
+                grow();
+            }
+            long index = size++;
+            long packed = (cell << 3) | move;
+            while (index > 0) {
+                long parent = (index - 1) >>> 1;
+                if (get(parent, 0) <= estimate) break;
+                copy(parent, index);
+                index = parent;
+            }
+            set(index, estimate, cost, packed);
+        }
+
+        long peekCost() {
+            return get(0, 1);
+        }
+
+        long peekCell() {
+            return get(0, 2) >>> 3;
+        }
+
+        int peekMove() {
+            return (int) (get(0, 2) & 7);
+        }
+
+        void remove() {
+            size--;
+            if (size == 0) return;
+            long estimate = get(size, 0);
+            long cost = get(size, 1);
+            long packed = get(size, 2);
+            long index = 0;
+            while (true) {
+                long child = 2 * index + 1;
+                if (child >= size) break;
+                if (child + 1 < size && get(child + 1, 0) < get(child, 0)) {
+                    child++;
+                }
+                if (get(child, 0) >= estimate) break;
+                copy(child, index);
+                index = child;
+            }
+            set(index, estimate, cost, packed);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private long get(long index, int field) {
+            return buffer.getAtIndex(ValueLayout.JAVA_LONG, index * ENTRY_LONGS + field);
+        }
+
+        private void set(long index, long estimate, long cost, long packed) {
+            long base = index * ENTRY_LONGS;
+            buffer.setAtIndex(ValueLayout.JAVA_LONG, base, estimate);
+            buffer.setAtIndex(ValueLayout.JAVA_LONG, base + 1, cost);
+            buffer.setAtIndex(ValueLayout.JAVA_LONG, base + 2, packed);
+        }
+
+        private void copy(long from, long to) {
+            MemorySegment.copy(buffer, from * ENTRY_LONGS * Long.BYTES,
+                    buffer, to * ENTRY_LONGS * Long.BYTES, ENTRY_LONGS * Long.BYTES);
+        }
+
+        private void grow() {
+            Arena biggerArena = Arena.ofConfined();
+            MemorySegment bigger = biggerArena.allocate(2 * capacity * ENTRY_LONGS * Long.BYTES, Long.BYTES);
+            MemorySegment.copy(buffer, 0, bigger, 0, size * ENTRY_LONGS * Long.BYTES);
+            arena.close();
+            arena = biggerArena;
+            buffer = bigger;
+            capacity *= 2;
+        }
+
+        @Override
+        public void close() {
+            arena.close();
+        }
+    }
+
     /**
      * Internal class representing a node in the priority queue
      */
     private static class Node {
         int vertex;
         int fScore;
+        int row;
+        int col;
         
-        Node(int vertex, int fScore) {
+        Node(int vertex, int fScore, int row, int col) {
             this.vertex = vertex;
             this.fScore = fScore;
+            this.row = row;
+            this.col = col;
         }
     }
 }
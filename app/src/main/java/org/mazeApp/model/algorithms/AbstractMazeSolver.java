@@ -3,7 +3,9 @@ package org.mazeApp.model.algorithms;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
+import org.mazeApp.model.GraphSnapshot;
 import org.mazeApp.model.MazeSolver;
 import org.mazeApp.view.GraphView;
 import org.mazeApp.view.MazeView;
@@ -21,6 +23,10 @@ public abstract class AbstractMazeSolver implements MazeSolver {
      * Default fields to AbstractMazeSolver
      */
     protected Graph model;
+    /**
+     * Version of the graph to solve, taken when the solver is set up.
+     */
+    protected GraphSnapshot snapshot;
     protected GraphView graphView;
     protected MazeView mazeView;
     protected List<Integer> finalPath;
@@ -42,6 +48,8 @@ public abstract class AbstractMazeSolver implements MazeSolver {
     }
     /**
      * Sets up the solver with required components: graph model and views.
+     * It is called by the thread editing the graph, so it publishes the pending
+     * edits and the solver then works on that version, from any thread.
      * @param graph     the graph representing the maze
      * @param graphView the view for the graph
      * @param mazeView  the view for the maze
@@ -50,11 +58,36 @@ public abstract class AbstractMazeSolver implements MazeSolver {
     @Override
     public MazeSolver setup(Graph graph, GraphView graphView, MazeView mazeView) {
         this.model = graph;
+        this.snapshot = graph != null ? graph.snapshot() : null;
         this.graphView = graphView;
         this.mazeView = mazeView;
         return this;
     }
 
+    /**
+     * Sets up the solver on a given version of the graph, taken by the editing
+     * thread with {@link Graph#snapshot()}.
+     * @param graph     the graph representing the maze
+     * @param snapshot  the version of the graph to solve
+     * @param graphView the view for the graph
+     * @param mazeView  the view for the maze
+     * @return the solver instance itself (for chaining)
+     */
+    public MazeSolver setup(Graph graph, GraphSnapshot snapshot, GraphView graphView, MazeView mazeView) {
+        setup(graph, graphView, mazeView);
+        this.snapshot = snapshot;
+        return this;
+    }
+
+    /**
+     * Returns the CSR form of the version taken at setup. It never publishes the
+     * pending edits, which only the editing thread may do.
+     * @return the adjacency of the version to solve
+     */
+    protected FrozenGraph frozenModel() {
+        return snapshot.freeze();
+    }
+
     /**
      * {@return the execution time of the last solving operation in milliseconds.}
      */
@@ -1,5 +1,8 @@
 package org.mazeApp.model.algorithms;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -8,8 +11,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
+import org.mazeApp.model.GridMaze;
+import org.mazeApp.model.LongMazeSolver;
 import org.mazeApp.model.MazeSolver;
 import org.mazeApp.view.GraphView;
 import org.mazeApp.view.MazeView;
@@ -23,7 +28,10 @@ import org.mazeApp.view.MazeView;
  * </p>
  * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
  */
-public class BFSsolver extends AbstractMazeSolver {
+public class BFSsolver extends AbstractMazeSolver implements LongMazeSolver {
+
+    /** Marker stored for the starting cell of {@link #findPath(GridMaze, long, long)}, which has no parent. */
+    private static final int START_MARK = 5;
 
     private int start = -1;
     private int end = -1;
@@ -81,6 +89,10 @@ public class BFSsolver extends AbstractMazeSolver {
     public ArrayList<ArrayList<Integer>> solveBFS() {
         int startIdx = (mazeView != null) ? mazeView.getStartIndex() : this.start;
         int goalIdx = (mazeView != null) ? mazeView.getEndIndex() : this.end;
+        FrozenGraph frozen = frozenModel();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        this.verticesNb = frozen.getVertexNb();
 
         this.visitedVerticesArray = new boolean[verticesNb];
         this.vertexVisitOrder = new ArrayList<>();
@@ -110,9 +122,9 @@ public class BFSsolver extends AbstractMazeSolver {
             ArrayList<Integer> step = new ArrayList<>();
             step.add(current); 
 
-            for (Edges edge : graph.getEdges(current)) {
-                int neighborSource = edge.getDestination();
-                int neighborFirst = edge.getSource();
+            for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                int neighborSource = targets[i];
+                int neighborFirst = current;
 
                 if (!visitedVerticesArray[neighborSource]) {
                     visitedVerticesArray[neighborSource] = true;
@@ -167,10 +179,13 @@ public class BFSsolver extends AbstractMazeSolver {
      *
      * @param startingPoint the source node
      * @param endingPoint the target node
-     * @param graph the adjacency list graph structure
      * @return the path reconstructed from BFS traversal
      */
-    private ArrayList<Integer> bfsWithSteps(int startingPoint, int endingPoint, ArrayList<ArrayList<Edges>> graph) {
+    private ArrayList<Integer> bfsWithSteps(int startingPoint, int endingPoint) {
+        FrozenGraph frozen = frozenModel();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        this.verticesNb = frozen.getVertexNb();
         // Reset the structures
         this.visitedVerticesArray = new boolean[verticesNb];
         this.vertexVisitOrder = new ArrayList<>();
@@ -190,8 +205,8 @@ public class BFSsolver extends AbstractMazeSolver {
         while (!adjQueue.isEmpty()) {
             int currentVertex = adjQueue.poll();
             
-            for (Edges edg : graph.get(currentVertex)) {
-                int ajdVertex = edg.getDestination();
+            for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                int ajdVertex = targets[i];
                 
                 if (!this.visitedVerticesArray[ajdVertex]) {
                     this.visitedVerticesArray[ajdVertex] = true;
@@ -300,12 +315,206 @@ public class BFSsolver extends AbstractMazeSolver {
         this.visitedVerticesNb = 0;
         
         measureExecutionTime(() -> {
-            this.finalPath = bfsWithSteps(start, end, model.getGraphMaze());
+            this.finalPath = bfsWithSteps(start, end);
         });
         
         return new ArrayList<>(finalPath);
     }
         
+    /**
+     * Executes BFS on a CSR snapshot with primitive arrays only. The snapshot may
+     * be laid out in any {@link org.mazeApp.model.VertexOrdering}: the search
+     * runs on its internal indices, so a Morton-ordered snapshot (see
+     * {@link Graph#freeze(org.mazeApp.model.VertexOrdering)}) keeps neighbouring
+     * cells close in memory on large mazes.
+     *
+     * @param frozen the snapshot to explore
+     * @param start the starting vertex (public index)
+     * @param end the ending vertex (public index)
+     * @return the vertices (public indices) from start to end, or an empty array if end cannot be reached
+     */
+    public int[] findPath(FrozenGraph frozen, int start, int end) {
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        int size = frozen.getVertexNb();
+        int source = frozen.toInternal(start);
+        int goal = frozen.toInternal(end);
+        long begin = System.currentTimeMillis();
+
+        // parent[v] = -1 while v is not visited, the queue holds every vertex at most once
+        int[] parent = new int[size];
+        Arrays.fill(parent, -1);
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        parent[source] = source;
+        queue[tail++] = source;
+
+        boolean goalFound = source == goal;
+        while (head < tail && !goalFound) {
+            int current = queue[head++];
+            for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                int neighbour = targets[i];
+                if (parent[neighbour] >= 0) continue;
+                parent[neighbour] = current;
+                if (neighbour == goal) {
+                    goalFound = true;
+                    break;
+                }
+                queue[tail++] = neighbour;
+            }
+        }
+
+        int[] path = new int[0];
+        if (goalFound) {
+            int length = 1;
+            for (int node = goal; node != source; node = parent[node]) {
+                length++;
+            }
+            path = new int[length];
+            int node = goal;
+            for (int i = length - 1; i >= 0; i--) {
+                path[i] = frozen.toPublic(node);
+                node = parent[node];
+            }
+        } else {
+            System.out.println("No path found");
+        }
+
+        this.executionTime = System.currentTimeMillis() - begin;
+        this.visitedVerticesNb = tail + (goalFound && source != goal ? 1 : 0);
+        System.out.println("BFS stats: Visited " + this.visitedVerticesNb + " vertices, path length: " + path.length);
+        return path;
+    }
+
+    /**
+     * Executes BFS directly on a grid storage with long cell indices, for mazes
+     * too large for a {@link Graph} (see {@link org.mazeApp.model.OffHeapGridMaze}).
+     * <p>
+     * The passages are read in place and the per-cell state (one byte holding the
+     * direction back to the parent) and the queue are kept off-heap, so no Java
+     * array proportional to the maze size is allocated except the returned path.
+     * </p>
+     *
+     * @param maze the maze storage
+     * @param start the starting cell index
+     * @param end the ending cell index
+     * @return the cells from start to end, or an empty array if end cannot be reached
+     */
+    @Override
+    public long[] findPath(GridMaze maze, long start, long end) {
+        long cellCount = maze.getCellCount();
+        if (start < 0 || end < 0 || start >= cellCount || end >= cellCount) {
+            System.out.println("Start and end point not defined");
+            return new long[0];
+        }
+        long[] path = new long[0];
+        long visited = 0;
+        long begin = System.currentTimeMillis();
+
+        try (Arena scratch = Arena.ofConfined(); LongQueue queue = new LongQueue()) {
+            // 0 = not visited, otherwise 1 + index of the move leading back to the parent
+            MemorySegment cameFrom = scratch.allocate(cellCount);
+            cameFrom.fill((byte) 0);
+            long columns = maze.getColumns();
+            long[] backMoves = {1, columns, -1, -columns};
+            long[] neighbours = new long[4];
+
+            cameFrom.set(ValueLayout.JAVA_BYTE, start, (byte) START_MARK);
+            visited++;
+            queue.add(start);
+
+            boolean goalFound = start == end;
+            while (!queue.isEmpty() && !goalFound) {
+                long current = queue.poll();
+                int count = maze.getNeighbours(current, neighbours);
+                for (int i = 0; i < count; i++) {
+                    long neighbour = neighbours[i];
+                    if (cameFrom.get(ValueLayout.JAVA_BYTE, neighbour) != 0) continue;
+                    long back = current - neighbour;
+                    byte move = (byte) (back == 1 ? 1 : back == columns ? 2 : back == -1 ? 3 : 4);
+                    cameFrom.set(ValueLayout.JAVA_BYTE, neighbour, move);
+                    visited++;
+                    if (neighbour == end) {
+                        goalFound = true;
+                        break;
+                    }
+                    queue.add(neighbour);
+                }
+            }
+
+            if (goalFound) {
+                long length = 1;
+                for (long node = end; node != start; length++) {
+                    node += backMoves[cameFrom.get(ValueLayout.JAVA_BYTE, node) - 1];
+                }
+                path = new long[Math.toIntExact(length)];
+                long node = end;
+                for (int i = path.length - 1; i >= 0; i--) {
+                    path[i] = node;
+                    if (i > 0) {
+                        node += backMoves[cameFrom.get(ValueLayout.JAVA_BYTE, node) - 1];
+                    }
+                }
+            } else {
+                System.out.println("No path found");
+            }
+        }
+
+        this.executionTime = System.currentTimeMillis() - begin;
+        this.visitedVerticesNb = (int) Math.min(Integer.MAX_VALUE, visited);
+        System.out.println("BFS stats: Visited " + visited + " vertices, path length: " + path.length);
+        return path;
+    }
+
+    /**
+     * FIFO queue of cell indices stored off-heap in a ring buffer that doubles when full.
+     */
+    private static final class LongQueue implements AutoCloseable {
+        private Arena arena = Arena.ofConfined();
+        private long capacity = 1 << 16;
+        private MemorySegment buffer = arena.allocate(capacity * Long.BYTES, Long.BYTES);
+        private long head = 0;
+        private long size = 0;
+
+        void add(long value) {
+            if (size == capacity) {
+                grow();
+            }
+            buffer.setAtIndex(ValueLayout.JAVA_LONG, (head + size) % capacity, value);
+            size++;
+        }
+
+        long poll() {
+            long value = buffer.getAtIndex(ValueLayout.JAVA_LONG, head);
+            head = (head + 1) % capacity;
+            size--;
+            return value;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void grow() {
+            Arena biggerArena = Arena.ofConfined();
+            MemorySegment bigger = biggerArena.allocate(2 * capacity * Long.BYTES, Long.BYTES);
+            for (long i = 0; i < size; i++) {
+                bigger.setAtIndex(ValueLayout.JAVA_LONG, i, buffer.getAtIndex(ValueLayout.JAVA_LONG, (head + i) % capacity));
+            }
+            arena.close();
+            arena = biggerArena;
+            buffer = bigger;
+            capacity *= 2;
+            head = 0;
+        }
+
+        @Override
+        public void close() {
+            arena.close();
+        }
+    }
+
     /**
      * Reconstructs a path from goal back to start using parent mapping.
      *
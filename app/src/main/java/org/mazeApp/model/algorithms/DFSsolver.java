@@ -2,7 +2,7 @@ package org.mazeApp.model.algorithms;
 
 import java.util.ArrayList;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
 import org.mazeApp.view.GraphView;
 import org.mazeApp.view.MazeView;
@@ -116,9 +116,10 @@ public class DFSsolver extends AbstractMazeSolver {
      */
     private ArrayList<ArrayList<Integer>> solveDFSWithSteps(int start, int end) {
         ArrayList<ArrayList<Integer>> steps = new ArrayList<>();
-        boolean[] visited = new boolean[model.getVertexNb()];
+        FrozenGraph frozen = frozenModel();
+        boolean[] visited = new boolean[frozen.getVertexNb()];
         ArrayList<Integer> path = new ArrayList<>();
-        dfsRecursive(start, end, visited, path, steps);
+        dfsRecursive(start, end, visited, path, steps, frozen);
         System.out.println("Path found: " + path);
         return steps;
     }
@@ -131,10 +132,12 @@ public class DFSsolver extends AbstractMazeSolver {
      * @param visited a boolean array to track visited vertices
      * @param path the current path being explored
      * @param steps the list of recorded steps for visualization
+     * @param frozen the CSR snapshot of the graph being explored
      * @return true if the target is found, false otherwise
      */
     private boolean dfsRecursive(int current, int target, boolean[] visited,
-                                 ArrayList<Integer> path, ArrayList<ArrayList<Integer>> steps) {
+                                 ArrayList<Integer> path, ArrayList<ArrayList<Integer>> steps,
+                                 FrozenGraph frozen) {
         visited[current] = true;
         path.add(current);
         steps.add(new ArrayList<>(path)); // Save the step
@@ -143,11 +146,13 @@ public class DFSsolver extends AbstractMazeSolver {
             return true;
         }
 
-        for (Edges edge : model.getGraphMaze().get(current)) {
-            int neighbor = edge.getDestination();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+            int neighbor = targets[i];
             if (!visited[neighbor]) {
                 this.visitedVerticesNb++;
-                if (dfsRecursive(neighbor, target, visited, path, steps)) {
+                if (dfsRecursive(neighbor, target, visited, path, steps, frozen)) {
                     return true;
                 }
             }
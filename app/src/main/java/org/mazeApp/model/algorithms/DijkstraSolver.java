@@ -6,7 +6,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
 import org.mazeApp.view.GraphView;
 import org.mazeApp.view.MazeView;
@@ -116,8 +116,10 @@ public class DijkstraSolver extends AbstractMazeSolver {
      * @return a list of paths representing each step of the algorithm
      */
     public ArrayList<ArrayList<Integer>> getDijkstraSteps(int start, int goal) {
-        int vertexCount = model.getVertexNb();
-        ArrayList<ArrayList<Edges>> adj = model.getGraphMaze();
+        FrozenGraph frozen = frozenModel();
+        int vertexCount = frozen.getVertexNb();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
 
         int[] dist = new int[vertexCount];
         Arrays.fill(dist, Integer.MAX_VALUE);
@@ -145,8 +147,8 @@ public class DijkstraSolver extends AbstractMazeSolver {
 
             if (current == goal) break;
 
-            for (Edges edge : adj.get(current)) {
-                int neighbor = edge.getDestination();
+            for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                int neighbor = targets[i];
                 int newDist = dist[current] + 1;
 
                 if (newDist < dist[neighbor]) {
@@ -4,9 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
 import org.mazeApp.model.MazeSolver;
+import org.mazeApp.model.PaddedGrid;
 import org.mazeApp.view.GraphView;
 import org.mazeApp.view.MazeView;
 
@@ -24,8 +25,7 @@ import org.mazeApp.view.MazeView;
 
 public class OnlyRightSolver extends AbstractMazeSolver {
 
-    private int columns;
-    private int rows;
+    private PaddedGrid grid;
 
 
     /**
@@ -75,10 +75,6 @@ public class OnlyRightSolver extends AbstractMazeSolver {
     @Override
     public MazeSolver setup(Graph graph, GraphView graphView, MazeView mazeView) {
         super.setup(graph, graphView, mazeView);
-        if (graph != null) {
-            this.columns = graph.getColumns();
-            this.rows = graph.getRows();
-        }
         return this;
     }
 
@@ -106,29 +102,6 @@ public class OnlyRightSolver extends AbstractMazeSolver {
         }
     }
 
-    /**
-     * Checks whether the given neighbor is in the specified direction from the current cell.
-     *
-     * @param current current cell index
-     * @param neighbor neighboring cell index
-     * @param direction direction to check
-     * @return true if the neighbor lies in the given direction
-     */
-    private boolean isDirection(int current, int neighbor, Direction direction) {
-        int currentRow = current / columns;
-        int currentCol = current % columns;
-        int neighborRow = neighbor / columns;
-        int neighborCol = neighbor % columns;
-        switch (direction) {
-            case RIGHT: return (neighborCol == currentCol + 1) && (neighborRow == currentRow);
-            case DOWN: return (neighborRow == currentRow + 1) && (neighborCol == currentCol);
-            case LEFT: return (neighborCol == currentCol - 1) && (neighborRow == currentRow);
-            case UP: return (neighborRow == currentRow - 1) && (neighborCol == currentCol);
-            default: return false;
-        }
-    }
-
-    
     /**
      * Determines the direction from one cell to another.
      *
@@ -137,17 +110,9 @@ public class OnlyRightSolver extends AbstractMazeSolver {
      * @return direction of movement
      */
     private Direction getMovementDirection(int from, int to) {
-        int fromRow = from / columns;
-        int fromCol = from % columns;
-        int toRow = to / columns;
-        int toCol = to % columns;
-        if (fromRow == toRow) {
-            if (toCol == fromCol + 1) return Direction.RIGHT;
-            if (toCol == fromCol - 1) return Direction.LEFT;
-        } 
-        else if (fromCol == toCol) {
-            if (toRow == fromRow + 1) return Direction.DOWN;
-            if (toRow == fromRow - 1) return Direction.UP;
+        int delta = to - from;
+        for (Direction direction : Direction.values()) {
+            if (grid.getOffsets()[direction.value] == delta) return direction;
         }
         return null;
     }
@@ -161,16 +126,12 @@ public class OnlyRightSolver extends AbstractMazeSolver {
      * @return index of the neighbor if valid, otherwise -1
      */
     private int tryMove(int current, boolean[] visited, Direction direction) {
-        ArrayList<ArrayList<Edges>> graphMaze = model.getGraphMaze();
-        if (current < 0 || current >= graphMaze.size()) return -1;
-        for (Edges edge : graphMaze.get(current)) {
-            int neighbor = edge.getDestination();
-            if (!visited[neighbor] && isDirection(current, neighbor, direction)) {
-              this.visitedVerticesNb++;
-              return neighbor;
-            }
-        }
-        return -1;
+        // The border cells have no passage, so no bounds check is needed
+        if (!grid.isOpen(current, direction.value)) return -1;
+        int neighbor = current + grid.getOffsets()[direction.value];
+        if (visited[neighbor]) return -1;
+        this.visitedVerticesNb++;
+        return neighbor;
     }
 
     /**
@@ -184,18 +145,23 @@ public class OnlyRightSolver extends AbstractMazeSolver {
         int startIdx = (mazeView != null) ? mazeView.getStartIndex() : this.start;
         int goalIdx = (mazeView != null) ? mazeView.getEndIndex() : this.end;
         
-        int vertexCount = model.getVertexNb();
+        FrozenGraph frozen = frozenModel();
+        int vertexCount = frozen.getVertexNb();
 
         if (startIdx < 0 || goalIdx < 0 || startIdx >= vertexCount || goalIdx >= vertexCount) {
             System.out.println("Start and end point not defined");
             return new ArrayList<>();
         }
 
-        boolean[] visited = new boolean[vertexCount];
+        // The walk is done on padded cells, the path is kept with public indices
+        this.grid = PaddedGrid.of(frozen, model.getRows(), model.getColumns());
+        int startCell = grid.toPadded(startIdx);
+        int goalCell = grid.toPadded(goalIdx);
+        boolean[] visited = new boolean[grid.size()];
         ArrayList<ArrayList<Integer>> allSteps = new ArrayList<>();
         Stack<Integer> stack = new Stack<>();
-        stack.push(startIdx);
-        visited[startIdx] = true;
+        stack.push(startCell);
+        visited[startCell] = true;
 
         ArrayList<Integer> path = new ArrayList<>();
         path.add(startIdx);
@@ -205,7 +171,7 @@ public class OnlyRightSolver extends AbstractMazeSolver {
 
         while (!stack.isEmpty()) {
             int current = stack.peek();
-            if (current == goalIdx) break;
+            if (current == goalCell) break;
 
             Direction rightDirection = facing.turnRight();
             Direction forwardDirection = facing;
@@ -235,7 +201,7 @@ public class OnlyRightSolver extends AbstractMazeSolver {
             if (next != -1) {
                 stack.push(next);
                 visited[next] = true;
-                path.add(next);
+                path.add(path.get(path.size() - 1) + grid.getVertexOffsets()[facing.value]);
                 allSteps.add(new ArrayList<>(path));
             } 
             else {
@@ -254,7 +220,7 @@ public class OnlyRightSolver extends AbstractMazeSolver {
             }
         }
 
-        if (!stack.isEmpty() && stack.peek() == goalIdx) {
+        if (!stack.isEmpty() && stack.peek() == goalCell) {
             // Save the final path for future uses
             this.finalPath = new ArrayList<>(path);
         } else {
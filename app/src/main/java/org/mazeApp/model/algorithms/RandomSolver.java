@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
-import org.mazeApp.model.Edges;
+import org.mazeApp.model.FrozenGraph;
 import org.mazeApp.model.Graph;
 import org.mazeApp.view.MazeView;
 
@@ -68,8 +68,10 @@ public class RandomSolver extends AbstractMazeSolver {
         int startIdx = (mazeView != null) ? mazeView.getStartIndex() : this.start;
         int goalIdx = (mazeView != null) ? mazeView.getEndIndex() : this.end;
         
-        int vertexCount = model.getVertexNb();
-        ArrayList<ArrayList<Edges>> graphMaze = model.getGraphMaze();
+        FrozenGraph frozen = frozenModel();
+        int[] offsets = frozen.getOffsets();
+        int[] targets = frozen.getTargets();
+        int vertexCount = frozen.getVertexNb();
 
         Random rand = new Random();
         boolean[] visited = new boolean[vertexCount];
@@ -90,8 +92,8 @@ public class RandomSolver extends AbstractMazeSolver {
             }
 
             ArrayList<Integer> unvisitedNeighbours = new ArrayList<>();
-            for (Edges edge : graphMaze.get(current)) {
-                int neighbor = edge.getDestination();
+            for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+                int neighbor = targets[i];
                 if (!visited[neighbor]) {
                   this.visitedVerticesNb++;
                   unvisitedNeighbours.add(neighbor);
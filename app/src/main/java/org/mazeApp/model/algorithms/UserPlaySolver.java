@@ -3,7 +3,6 @@ package org.mazeApp.model.algorithms;
 import java.net.URL;
 import java.util.ArrayList;
 
-import org.mazeApp.model.Edges;
 import org.mazeApp.model.Graph;
 import org.mazeApp.view.MazeView;
 
@@ -145,12 +144,7 @@ public class UserPlaySolver {
      * @return Returns true if a connection exists, false otherwise
      */
     private boolean isConnected(int from, int to) {
-        for (Edges edge : graph.getGraphMaze().get(from)) {
-            if (edge.getDestination() == to) {
-                return true;
-            }
-        }
-        return false;
+        return graph.hasEdge(from, to);
     }
 
     /**
@@ -0,0 +1,92 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
+
+/**
+ * Generates a perfect maze with the binary tree algorithm: every cell opens
+ * either its east or its south passage, at random, except on the last column
+ * (always south) and the last row (always east). The maze has a long corridor
+ * along the bottom and the right side, and every path leads down and right.
+ * <p>
+ * A cell never depends on another, so a row is built 64 cells at a time from
+ * one random word: its bits are the south passages and their complement the
+ * east ones. Rows are handed to a {@link MazeRowSink} as they are built, which
+ * makes it the fastest generator and lets mazes of any height go straight to
+ * a file.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class BinaryTreeGenerator extends MazeGenerator implements RowMazeGenerator {
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        generateRows(rows, columns, seed, MazeRowSink.into(generationSteps, columns));
+        return generationSteps;
+    }
+
+    /**
+     * Streams the rows into the storage, see {@link EllerGenerator#generateInto(GridMaze, int)}.
+     *
+     * @param maze the storage to fill, expected to have all its walls present
+     * @param seed Seed Number of the Maze
+     */
+    @Override
+    public void generateInto(GridMaze maze, int seed) {
+        generateRows(maze.getRows(), maze.getColumns(), seed, MazeRowSink.into(maze));
+    }
+
+    @Override
+    public void generateRows(long rows, int columns, int seed, MazeRowSink sink) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        if (rows == 0 || columns == 0) {
+            return;
+        }
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int words = (columns + 63) >>> 6;
+        int lastWord = words - 1;
+        // Cells of the last word, and the bit of the last column
+        long lastWordMask = -1L >>> (-columns & 63);
+        long lastColumn = 1L << (columns - 1);
+        long[] east = new long[words];
+        long[] south = new long[words];
+
+        for (long row = 0; row < rows - 1; row++) {
+            for (int w = 0; w < lastWord; w++) {
+                long random = rnd.nextLong();
+                south[w] = random;
+                east[w] = ~random;
+            }
+            long random = rnd.nextLong();
+            south[lastWord] = (random | lastColumn) & lastWordMask;
+            east[lastWord] = ~random & ~lastColumn & lastWordMask;
+            sink.acceptRow(row, east, south);
+        }
+
+        // Last row: one corridor
+        Arrays.fill(east, -1L);
+        east[lastWord] = lastWordMask & ~lastColumn;
+        Arrays.fill(south, 0);
+        sink.acceptRow(rows - 1, east, south);
+    }
+
+    @Override
+    public String getName() {
+        return "Binary tree";
+    }
+}
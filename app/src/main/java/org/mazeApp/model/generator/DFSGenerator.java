@@ -1,12 +1,26 @@
 package org.mazeApp.model.generator;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Random;
+import org.mazeApp.model.EdgeBuffer;
 import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
+import org.mazeApp.model.PaddedGrid;
 
 public class DFSGenerator extends MazeGenerator {
 
+    // Order in which the neighbours are listed before being shuffled
+    private static final int[] NEIGHBOUR_ORDER = {
+        PaddedGrid.RIGHT, PaddedGrid.LEFT, PaddedGrid.DOWN, PaddedGrid.UP
+    };
+
+    // Frame layout of generateInto: cell << 14 | 4 directions of 2 bits << 6 | direction count << 3 | next direction
+    private static final int FRAME_CELL_SHIFT = 14;
+
     private mazeType typeMazeGenerated;
     public DFSGenerator(boolean isImperfect){
       if(isImperfect){
@@ -22,65 +36,251 @@ public class DFSGenerator extends MazeGenerator {
 
     @Override
     public ArrayList<Edges> generate(int rows, int columns, int seed) {
-        ArrayList<Edges> generationSteps = new ArrayList<>();
-        boolean[] visited = new boolean[rows * columns];
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        PaddedGrid grid = new PaddedGrid(rows, columns);
         Random random = new Random(seed);
         
         // Commence à un point aléatoire
-        int start = random.nextInt(rows * columns);
-        dfsGenerate(start, rows, columns, visited, generationSteps, random);
+        int start = random.nextInt(cellCount);
+        dfsGenerate(grid.toPadded(start), start, grid, generationSteps, random);
         
         if(typeMazeGenerated == mazeType.IMPERFECT){
-          generationSteps.removeFirst();
-          ArrayList<Edges> imperfectGenerationSteps = new ArrayList<>();
+          generationSteps.removeAt(0);
+          EdgeBuffer imperfectGenerationSteps = new EdgeBuffer(generationSteps.size());
           int probabilityToRemove = 5;
-          for(Edges edge : generationSteps ){
+          for(int i = 0; i < generationSteps.size(); i++){
             if(random.nextInt(100) > probabilityToRemove ) 
-              imperfectGenerationSteps.add(edge);
+              imperfectGenerationSteps.addPacked(generationSteps.get(i));
           }
           return imperfectGenerationSteps;
         } 
         return generationSteps;
     }
     
+    /**
+     * Generates the maze directly into a grid storage with long cell indices,
+     * for mazes beyond 2^31 cells. The depth-first walk is iterative: each
+     * frame of the off-heap stack packs a cell with its shuffled directions
+     * and the next one to try, and a cell counts as visited once it has a
+     * passage, so no per-cell state is allocated besides the maze itself.
+     * Perfect mazes are the same as with {@link #generatePacked(int, int, int)};
+     * imperfect mazes that fit in int indices go through it, larger ones drop
+     * the same share of passages in cell order.
+     *
+     * @param maze the storage to fill, expected to have all its walls present
+     * @param seed Seed Number of the Maze
+     */
+    @Override
+    public void generateInto(GridMaze maze, int seed) {
+        long cellCount = maze.getCellCount();
+        if (typeMazeGenerated == mazeType.IMPERFECT && cellCount <= Integer.MAX_VALUE) {
+            super.generateInto(maze, seed);
+            return;
+        }
+        long columns = maze.getColumns();
+        long[] moves = {1, -1, columns, -columns};
+        long[] neighbours = new long[4];
+        Random random = new Random(seed);
+        long start = cellCount <= Integer.MAX_VALUE ? random.nextInt((int) cellCount) : random.nextLong(cellCount);
+
+        try (FrameStack stack = new FrameStack()) {
+            stack.push(newFrame(start, maze, random));
+            while (!stack.isEmpty()) {
+                long frame = stack.peek();
+                int next = (int) (frame & 7);
+                int count = (int) ((frame >>> 3) & 7);
+                if (next == count) {
+                    stack.pop();
+                    continue;
+                }
+                stack.replaceTop(frame + 1);
+                long cell = frame >>> FRAME_CELL_SHIFT;
+                int direction = (int) ((frame >>> (6 + 2 * next)) & 3);
+                long neighbour = cell + moves[direction];
+                if (neighbour != start && maze.getNeighbours(neighbour, neighbours) == 0) {
+                    maze.addEdge(cell, neighbour);
+                    stack.push(newFrame(neighbour, maze, random));
+                }
+            }
+        }
+
+        if (typeMazeGenerated == mazeType.IMPERFECT) {
+            int probabilityToRemove = 5;
+            for (long cell = 0; cell < cellCount; cell++) {
+                if (maze.isEastOpen(cell) && random.nextInt(100) <= probabilityToRemove) {
+                    maze.removeEdge(cell, cell + 1);
+                }
+                if (maze.isSouthOpen(cell) && random.nextInt(100) <= probabilityToRemove) {
+                    maze.removeEdge(cell, cell + columns);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the directions leading inside the maze from a cell, in the order of
+     * {@link #NEIGHBOUR_ORDER}, shuffles them and packs them in a stack frame.
+     */
+    private static long newFrame(long cell, GridMaze maze, Random random) {
+        long columns = maze.getColumns();
+        long col = cell % columns;
+        int[] directions = new int[4];
+        int count = 0;
+        if (col < columns - 1) directions[count++] = 0;
+        if (col > 0) directions[count++] = 1;
+        if (cell + columns < maze.getCellCount()) directions[count++] = 2;
+        if (cell - columns >= 0) directions[count++] = 3;
+        return cell << FRAME_CELL_SHIFT | shuffle(directions, count, random);
+    }
+
+    /**
+     * Shuffles directions like Collections.shuffle, to keep the same mazes, and
+     * packs them in the low bits of a stack frame: 4 directions of 2 bits from
+     * bit 6, the direction count from bit 3 and the next direction to try
+     * (0) in bits 0 to 2.
+     */
+    private static int shuffle(int[] directions, int count, Random random) {
+        for (int i = count; i > 1; i--) {
+            int j = random.nextInt(i);
+            int tmp = directions[i - 1];
+            directions[i - 1] = directions[j];
+            directions[j] = tmp;
+        }
+        int frame = count << 3;
+        for (int i = 0; i < count; i++) {
+            frame |= directions[i] << (6 + 2 * i);
+        }
+        return frame;
+    }
+
+    /**
+     * Stack of frames stored off-heap, doubling when full.
+     */
+    private static final class FrameStack implements AutoCloseable {
+        private Arena arena = Arena.ofConfined();
+        private long capacity = 1 << 16;
+        private MemorySegment buffer = arena.allocate(capacity * Long.BYTES, Long.BYTES);
+        private long size = 0;
+
+        void push(long frame) {
+            if (size == capacity) {
+                grow();
+            }
+            buffer.setAtIndex(ValueLayout.JAVA_LONG, size++, frame);
+        }
+
+        long peek() {
+            return buffer.getAtIndex(ValueLayout.JAVA_LONG, size - 1);
+        }
+
+        void replaceTop(long frame) {
+            buffer.setAtIndex(ValueLayout.JAVA_LONG, size - 1, frame);
+        }
+
+        void pop() {
+            size--;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void grow() {
+            Arena biggerArena = Arena.ofConfined();
+            MemorySegment bigger = biggerArena.allocate(2 * capacity * Long.BYTES, Long.BYTES);
+            MemorySegment.copy(buffer, 0, bigger, 0, size * Long.BYTES);
+            arena.close();
+            arena = biggerArena;
+            buffer = bigger;
+            capacity *= 2;
+        }
+
+        @Override
+        public void close() {
+            arena.close();
+        }
+    }
+
     @Override
     public String getName() {
         return "DFS";
     }
     
-    private void dfsGenerate(int current, int rows, int columns, boolean[] visited, 
-                             ArrayList<Edges> steps, Random random) {
-        visited[current] = true;
-        
-        // Obtenir tous les voisins potentiels
-        ArrayList<Integer> neighbors = new ArrayList<>();
-        
-        // Voisin à droite
-        if ((current % columns) < columns - 1) {
-            neighbors.add(current + 1);
-        }
-        // Voisin à gauche
-        if ((current % columns) > 0) {
-            neighbors.add(current - 1);
-        }
-        // Voisin en bas
-        if (current + columns < rows * columns) {
-            neighbors.add(current + columns);
+    /**
+     * Walks the maze depth first from a cell, visiting unvisited neighbours in
+     * random order, without recursion. Each frame of the {@code int[]} stack
+     * only holds the shuffled directions of its cell and the next one to try
+     * (see {@link #shuffle(int[], int, Random)}): the current cell is followed
+     * both in the padded grid and by its public index, and when a frame is
+     * popped both are moved back along the last direction taken by the parent.
+     * A cell counts as visited once a passage reaches it, so the padded grid
+     * is the only per-cell state.
+     */
+    private void dfsGenerate(int start, int startVertex, PaddedGrid grid,
+                             EdgeBuffer steps, Random random) {
+        int[] offsets = grid.getOffsets();
+        int[] vertexOffsets = grid.getVertexOffsets();
+        int[] directions = new int[4];
+        int[] stack = new int[1024];
+        int size = 0;
+        int cell = start;
+        int vertex = startVertex;
+        stack[size++] = newFrame(cell, grid, directions, random);
+
+        while (size > 0) {
+            int frame = stack[size - 1];
+            int next = frame & 7;
+            if (next == ((frame >>> 3) & 7)) {
+                // Every direction tried: back to the parent cell
+                if (--size > 0) {
+                    int parent = stack[size - 1];
+                    int direction = (parent >>> (6 + 2 * ((parent & 7) - 1))) & 3;
+                    cell -= offsets[direction];
+                    vertex -= vertexOffsets[direction];
+                }
+                continue;
+            }
+            stack[size - 1] = frame + 1;
+            int direction = (frame >>> (6 + 2 * next)) & 3;
+            int neighbour = cell + offsets[direction];
+            if (neighbour != start && grid.isClosed(neighbour)) {
+                int neighbourVertex = vertex + vertexOffsets[direction];
+                steps.add(vertex, neighbourVertex);
+                grid.open(cell, direction);
+                cell = neighbour;
+                vertex = neighbourVertex;
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[size++] = newFrame(cell, grid, directions, random);
+            }
         }
-        // Voisin en haut
-        if (current - columns >= 0) {
-            neighbors.add(current - columns);
+    }
+
+    /**
+     * Lists the directions leading inside the maze from a padded cell, in the
+     * order of {@link #NEIGHBOUR_ORDER}, from its mask of non-border sides.
+     */
+    private static int newFrame(int cell, PaddedGrid grid, int[] directions, Random random) {
+        int[] offsets = grid.getOffsets();
+        int mask = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            if (!grid.isBorder(cell + offsets[direction])) {
+                mask |= 1 << direction;
+            }
         }
-        
-        // Mélanger les voisins pour rendre la génération pseudo-aléatoire
-        Collections.shuffle(neighbors, random);
-        
-        // Visiter chaque voisin non visité
-        for (int neighbor : neighbors) {
-            if (!visited[neighbor]) {
-                steps.add(new Edges(current, neighbor));
-                dfsGenerate(neighbor, rows, columns, visited, steps, random);
+        int count = 0;
+        for (int direction : NEIGHBOUR_ORDER) {
+            if ((mask & (1 << direction)) != 0) {
+                directions[count++] = direction;
             }
         }
+        return shuffle(directions, count, random);
     }
 }
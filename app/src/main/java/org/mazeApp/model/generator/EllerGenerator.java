@@ -0,0 +1,148 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
+
+/**
+ * Generates a perfect maze with Eller's algorithm, one row at a time.
+ * <p>
+ * Only the current row is kept: each cell carries the label of the set of
+ * cells it is already connected to. Adjacent cells of different sets are
+ * randomly joined, then every set opens at least one passage to the next row,
+ * whose other cells start new sets. The last row joins all the remaining sets.
+ * Labels are renumbered on every row so they stay below the number of columns,
+ * and sets are merged with a union-find over the labels, so a row costs
+ * O(columns) time and the memory does not depend on the height.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class EllerGenerator extends MazeGenerator implements RowMazeGenerator {
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        generateRows(rows, columns, seed, MazeRowSink.into(generationSteps, columns));
+        return generationSteps;
+    }
+
+    /**
+     * Streams the rows into the storage, so mazes beyond 2^31 cells or paged
+     * from a file are generated without any other per-cell memory.
+     *
+     * @param maze the storage to fill, expected to have all its walls present
+     * @param seed Seed Number of the Maze
+     */
+    @Override
+    public void generateInto(GridMaze maze, int seed) {
+        generateRows(maze.getRows(), maze.getColumns(), seed, MazeRowSink.into(maze));
+    }
+
+    @Override
+    public void generateRows(long rows, int columns, int seed, MazeRowSink sink) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        if (rows == 0 || columns == 0) {
+            return;
+        }
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int[] label = new int[columns];
+        int[] parent = new int[columns];
+        int[] remaining = new int[columns];
+        boolean[] goesDown = new boolean[columns];
+        int[] nextLabel = new int[columns];
+        long[] east = new long[(columns + 63) >>> 6];
+        long[] south = new long[east.length];
+
+        for (int col = 0; col < columns; col++) {
+            label[col] = col;
+        }
+        for (long row = 0; row < rows; row++) {
+            boolean lastRow = row == rows - 1;
+            Arrays.fill(east, 0);
+            Arrays.fill(south, 0);
+            for (int l = 0; l < columns; l++) {
+                parent[l] = l;
+            }
+
+            // Join adjacent cells of different sets, all of them on the last row
+            for (int col = 0; col < columns - 1; col++) {
+                int left = find(parent, label[col]);
+                int right = find(parent, label[col + 1]);
+                if (left != right && (lastRow || rnd.nextBoolean())) {
+                    east[col >>> 6] |= 1L << col;
+                    parent[left] = right;
+                }
+            }
+
+            if (!lastRow) {
+                // Every set goes down at least once: forced on its last cell if it has not yet
+                Arrays.fill(remaining, 0);
+                Arrays.fill(goesDown, false);
+                for (int col = 0; col < columns; col++) {
+                    label[col] = find(parent, label[col]);
+                    remaining[label[col]]++;
+                }
+                for (int col = 0; col < columns; col++) {
+                    int set = label[col];
+                    remaining[set]--;
+                    if (rnd.nextBoolean() || (remaining[set] == 0 && !goesDown[set])) {
+                        south[col >>> 6] |= 1L << col;
+                        goesDown[set] = true;
+                    }
+                }
+            }
+
+            sink.acceptRow(row, east, south);
+
+            if (!lastRow) {
+                // Cells reached from above keep their set, the others start a new one
+                Arrays.fill(nextLabel, -1);
+                int labels = 0;
+                for (int col = 0; col < columns; col++) {
+                    if ((south[col >>> 6] & (1L << col)) != 0) {
+                        if (nextLabel[label[col]] < 0) {
+                            nextLabel[label[col]] = labels++;
+                        }
+                        label[col] = nextLabel[label[col]];
+                    } else {
+                        label[col] = -1;
+                    }
+                }
+                for (int col = 0; col < columns; col++) {
+                    if (label[col] < 0) {
+                        label[col] = labels++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the set of a label, halving the path on the way.
+     */
+    private static int find(int[] parent, int l) {
+        while (parent[l] != l) {
+            parent[l] = parent[parent[l]];
+            l = parent[l];
+        }
+        return l;
+    }
+
+    @Override
+    public String getName() {
+        return "Eller";
+    }
+}
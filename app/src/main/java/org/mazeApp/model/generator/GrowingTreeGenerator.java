@@ -0,0 +1,205 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.PaddedGrid;
+
+/**
+ * Generates a perfect maze with the growing tree algorithm: a set of active
+ * cells starts with a random cell, and at each step the {@link SelectionPolicy}
+ * picks an active cell, which is joined to a random unvisited neighbour that
+ * becomes active in turn. A cell without unvisited neighbour leaves the set.
+ * <p>
+ * The policy sets the texture of the maze, from the long corridors of
+ * {@link SelectionPolicy#newest()} to the short dead ends of
+ * {@link SelectionPolicy#random()}, so one engine covers the depth-first and
+ * Prim-like mazes and any mix of them.
+ * </p>
+ * <p>
+ * The active set is an {@code int[]} deque of padded cells, with the public
+ * indices alongside, kept from the oldest to the newest cell: every cell is
+ * appended once at the tail, and a cell leaving from the middle leaves a dead
+ * slot behind, so no other cell moves. The newest and the oldest cells are found
+ * at the ends; the first pick in the middle builds a Fenwick tree of the live
+ * slots, which then finds the cell at a position in O(log n). A cell is visited
+ * once it has a passage, so the padded grid is the only per-cell state besides
+ * the deque, and no object is created per step.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class GrowingTreeGenerator extends MazeGenerator {
+
+    private final SelectionPolicy policy;
+
+    /**
+     * Creates a generator taking the newest cell, like a depth-first search.
+     */
+    public GrowingTreeGenerator() {
+        this(SelectionPolicy.newest());
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param policy the choice of the active cell at each step
+     */
+    public GrowingTreeGenerator(SelectionPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        if (cellCount == 0) {
+            return generationSteps;
+        }
+        PaddedGrid grid = new PaddedGrid(rows, columns);
+        int[] offsets = grid.getOffsets();
+        int[] vertexOffsets = grid.getVertexOffsets();
+        // Every cell enters the deque once, at the tail, so it never wraps around.
+        // A cell leaving from the middle leaves a dead slot (-1), so the others keep their age order
+        int[] activeCells = new int[cellCount];
+        int[] activeVertices = new int[cellCount];
+        int head = 0;
+        int tail = 0;
+        int size = 0;
+        // Live slots counted in a Fenwick tree, built at the first pick in the middle
+        int[] liveSlots = null;
+        SplittableRandom rnd = new SplittableRandom(seed);
+        SelectionPolicy policy = this.policy;
+
+        int startVertex = rnd.nextInt(cellCount);
+        int start = grid.toPadded(startVertex);
+        activeCells[tail] = start;
+        activeVertices[tail++] = startVertex;
+        size++;
+
+        while (size > 0) {
+            // The slots at head and tail - 1 are always live
+            int position = policy.select(size, rnd);
+            int index;
+            if (position == size - 1) {
+                index = tail - 1;
+            } else if (position == 0) {
+                index = head;
+            } else {
+                if (liveSlots == null) {
+                    liveSlots = countLiveSlots(activeCells, tail);
+                }
+                index = findLiveSlot(liveSlots, position);
+            }
+            int cell = activeCells[index];
+
+            // Unvisited neighbours: inside the maze, without passage, not the first cell
+            int unvisited = 0;
+            for (int direction = 0; direction < 4; direction++) {
+                int neighbour = cell + offsets[direction];
+                if (!grid.isBorder(neighbour) && grid.isClosed(neighbour) && neighbour != start) {
+                    unvisited |= 1 << direction;
+                }
+            }
+
+            if (unvisited == 0) {
+                activeCells[index] = -1;
+                size--;
+                if (liveSlots != null) {
+                    updateLiveSlots(liveSlots, index, -1);
+                }
+                while (head < tail && activeCells[head] < 0) {
+                    head++;
+                }
+                while (tail > head && activeCells[tail - 1] < 0) {
+                    tail--;
+                }
+                continue;
+            }
+
+            int direction = nthBit(unvisited, rnd.nextInt(Integer.bitCount(unvisited)));
+            int vertex = activeVertices[index];
+            int neighbourVertex = vertex + vertexOffsets[direction];
+            generationSteps.add(vertex, neighbourVertex);
+            grid.open(cell, direction);
+            if (liveSlots != null) {
+                updateLiveSlots(liveSlots, tail, 1);
+            }
+            activeCells[tail] = cell + offsets[direction];
+            activeVertices[tail++] = neighbourVertex;
+            size++;
+        }
+        return generationSteps;
+    }
+
+    /**
+     * Builds a Fenwick tree counting the live slots of the deque, over all its capacity.
+     */
+    private static int[] countLiveSlots(int[] activeCells, int tail) {
+        int[] tree = new int[activeCells.length + 1];
+        for (int slot = 0; slot < tail; slot++) {
+            if (activeCells[slot] >= 0) {
+                tree[slot + 1]++;
+            }
+        }
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Adds a count to a slot of the Fenwick tree.
+     */
+    private static void updateLiveSlots(int[] tree, int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the slot of the live cell at a position, from 0 (oldest).
+     */
+    private static int findLiveSlot(int[] tree, int position) {
+        int slot = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            if (slot + step < tree.length && tree[slot + step] <= position) {
+                slot += step;
+                position -= tree[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the position of the n-th set bit of a direction mask.
+     */
+    private static int nthBit(int mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * {@return the choice of the active cell at each step}
+     */
+    public SelectionPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public String getName() {
+        return "Growing tree (" + policy + ")";
+    }
+}
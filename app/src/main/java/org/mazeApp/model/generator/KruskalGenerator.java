@@ -1,9 +1,13 @@
 package org.mazeApp.model.generator;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
+import java.util.SplittableRandom;
 
+import org.mazeApp.model.EdgeBuffer;
 import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
 
 /**
  *  This class creates a maze following the kruskal algorithm, which extracts a spanning tree from the current 
@@ -24,82 +28,206 @@ public class KruskalGenerator extends MazeGenerator {
 
     @Override
     public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
 
-        ArrayList<Edges> generationSteps = new ArrayList<>();
-        ArrayList<Edges> allEdges = createGridEdges(rows, columns);
+    /**
+     * Generates the passages with primitive arrays only: grid edges are ids
+     * {@code 2 * cell + direction} (0 = east, 1 = south) in an {@code int[]},
+     * read as unsigned so that every int-sized maze fits, shuffled with
+     * Fisher–Yates and a {@link SplittableRandom}, and merged in a union-find
+     * with path halving and union by rank.
+     *
+     * @param rows Number of rows of the Maze
+     * @param columns Number of columns of the Maze
+     * @param seed Seed Number of the Maze
+     * @return the passages, in the order they were added
+     */
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int totalVertices = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, totalVertices - 1));
+        int[] allEdges = createGridEdges(rows, columns);
         
-        Random rnd = new Random(seed);  
+        SplittableRandom rnd = new SplittableRandom(seed);
         double probabilityLimit = 0.5;
-        System.out.println("Type of generation : " + this.typeMazeGenerated);
-        Collections.shuffle(allEdges, rnd);
+        for (int i = allEdges.length; i > 1; i--) {
+            int j = rnd.nextInt(i);
+            int tmp = allEdges[i - 1];
+            allEdges[i - 1] = allEdges[j];
+            allEdges[j] = tmp;
+        }
         
-        int totalVertices = rows * columns;
         int[] parent = new int[totalVertices];
+        byte[] rank = new byte[totalVertices];
         
         for (int i = 0; i < totalVertices; i++) {
             parent[i] = i;
         }
 
-        for (Edges edge : allEdges) {
-            int source = edge.getSource();
-            int destination = edge.getDestination();
+        for (int id : allEdges) {
+            int source = id >>> 1;
+            int destination = (id & 1) == 0 ? source + 1 : source + columns;
 
             int sourceRoot = find(parent, source);
             int destRoot = find(parent, destination);
 
             if (sourceRoot != destRoot) {
-                boolean addingEdge = false;
-               
-                if(this.typeMazeGenerated == mazeType.PERFECT) addingEdge = true;
-                else{ 
-                  if(rnd.nextInt(100) < probabilityLimit *100){
-                    addingEdge = true;
-                  }
-                }
-             
-                if(addingEdge == true){
-                  generationSteps.add(new Edges(source, destination));
-                  union(parent, sourceRoot, destRoot); 
+                boolean addingEdge = this.typeMazeGenerated == mazeType.PERFECT
+                    || rnd.nextInt(100) < probabilityLimit * 100;
+                if (addingEdge) {
+                    generationSteps.add(source, destination);
+                    union(parent, rank, sourceRoot, destRoot);
                 }
             }
         }
         
-        
-        
         return generationSteps;
     }
     
+    /**
+     * Generates a maze directly into a grid storage, using long cell indices and
+     * off-heap scratch memory instead of Java collections. This is the path used
+     * for {@link org.mazeApp.model.OffHeapGridMaze} mazes too large for
+     * {@link #generate(int, int, int)}. For a given seed the passages are the same
+     * as the ones returned by {@link #generate(int, int, int)}, in cell order.
+     *
+     * @param maze the storage to fill, expected to have all its walls present
+     * @param seed Seed Number of the Maze
+     */
+    @Override
+    public void generateInto(GridMaze maze, int seed) {
+        int rows = maze.getRows();
+        int columns = maze.getColumns();
+        long totalVertices = maze.getCellCount();
+        long edgeNb = (long) rows * (columns - 1) + (long) (rows - 1) * columns;
+        SplittableRandom rnd = new SplittableRandom(seed);
+        double probabilityLimit = 0.5;
+
+        try (Arena scratch = Arena.ofConfined()) {
+            // Edge ids are 2 * cell + direction (0 = east, 1 = south), listed in the order of createGridEdges
+            MemorySegment edges = scratch.allocate(Math.max(1, edgeNb) * Long.BYTES, Long.BYTES);
+            long count = 0;
+            for (long cell = 0; cell < totalVertices; cell++) {
+                long col = cell % columns;
+                if (col < columns - 1) {
+                    edges.setAtIndex(ValueLayout.JAVA_LONG, count++, 2 * cell);
+                }
+                if (cell + columns < totalVertices) {
+                    edges.setAtIndex(ValueLayout.JAVA_LONG, count++, 2 * cell + 1);
+                }
+            }
+
+            // Same permutation as generatePacked
+            for (long i = count; i > 1; i--) {
+                long j = i <= Integer.MAX_VALUE ? rnd.nextInt((int) i) : rnd.nextLong(i);
+                long tmp = edges.getAtIndex(ValueLayout.JAVA_LONG, i - 1);
+                edges.setAtIndex(ValueLayout.JAVA_LONG, i - 1, edges.getAtIndex(ValueLayout.JAVA_LONG, j));
+                edges.setAtIndex(ValueLayout.JAVA_LONG, j, tmp);
+            }
+
+            MemorySegment parent = scratch.allocate(totalVertices * Long.BYTES, Long.BYTES);
+            MemorySegment rank = scratch.allocate(totalVertices);
+            for (long i = 0; i < totalVertices; i++) {
+                parent.setAtIndex(ValueLayout.JAVA_LONG, i, i);
+            }
+
+            for (long i = 0; i < count; i++) {
+                long id = edges.getAtIndex(ValueLayout.JAVA_LONG, i);
+                long source = id >>> 1;
+                long destination = (id & 1) == 0 ? source + 1 : source + columns;
+
+                long sourceRoot = find(parent, source);
+                long destRoot = find(parent, destination);
+
+                if (sourceRoot != destRoot) {
+                    boolean addingEdge = this.typeMazeGenerated == mazeType.PERFECT
+                        || rnd.nextInt(100) < probabilityLimit * 100;
+                    if (addingEdge) {
+                        maze.addEdge(source, destination);
+                        union(parent, rank, sourceRoot, destRoot);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public String getName() {
         return "Kruskal";
     }
     
-    private ArrayList<Edges> createGridEdges(int rows, int columns) {
-        ArrayList<Edges> edges = new ArrayList<>();
+    /**
+     * Lists the grid edges as ids {@code 2 * cell + direction}, row by row.
+     */
+    private int[] createGridEdges(int rows, int columns) {
+        // Refused with an ArithmeticException beyond 2^31 - 1 passages
+        int[] edges = new int[Math.toIntExact(Math.max(0, (long) rows * (columns - 1) + (long) (rows - 1) * columns))];
+        int count = 0;
 
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < columns; col++) {
-                int current = row * columns + col;
+                int id = 2 * (row * columns + col);
 
                 if (col < columns - 1) {
-                    edges.add(new Edges(current, current + 1));
+                    edges[count++] = id;
                 }
                 if (row < rows - 1) {
-                    edges.add(new Edges(current, current + columns));
+                    edges[count++] = id + 1;
                 }
             }
         }
         return edges;
     }
     
+    /**
+     * Finds the root of a vertex, halving the path on the way.
+     */
     private int find(int[] parent, int vertex) {
-        if (parent[vertex] != vertex) {
-            parent[vertex] = find(parent, parent[vertex]);
+        while (parent[vertex] != vertex) {
+            parent[vertex] = parent[parent[vertex]];
+            vertex = parent[vertex];
         }
-        return parent[vertex];
+        return vertex;
     }
     
-    private void union(int[] parent, int x, int y) {
-        parent[x] = y;
+    private long find(MemorySegment parent, long vertex) {
+        long root = vertex;
+        while (parent.getAtIndex(ValueLayout.JAVA_LONG, root) != root) {
+            root = parent.getAtIndex(ValueLayout.JAVA_LONG, root);
+        }
+        while (vertex != root) {
+            long next = parent.getAtIndex(ValueLayout.JAVA_LONG, vertex);
+            parent.setAtIndex(ValueLayout.JAVA_LONG, vertex, root);
+            vertex = next;
+        }
+        return root;
+    }
+
+    /**
+     * Links two roots, the shallower tree under the deeper one.
+     */
+    private void union(int[] parent, byte[] rank, int x, int y) {
+        if (rank[x] < rank[y]) {
+            parent[x] = y;
+        } else if (rank[x] > rank[y]) {
+            parent[y] = x;
+        } else {
+            parent[y] = x;
+            rank[x]++;
+        }
+    }
+
+    private void union(MemorySegment parent, MemorySegment rank, long x, long y) {
+        byte rankX = rank.get(ValueLayout.JAVA_BYTE, x);
+        byte rankY = rank.get(ValueLayout.JAVA_BYTE, y);
+        if (rankX < rankY) {
+            parent.setAtIndex(ValueLayout.JAVA_LONG, x, y);
+        } else if (rankX > rankY) {
+            parent.setAtIndex(ValueLayout.JAVA_LONG, y, x);
+        } else {
+            parent.setAtIndex(ValueLayout.JAVA_LONG, y, x);
+            rank.set(ValueLayout.JAVA_BYTE, x, (byte) (rankX + 1));
+        }
     }
 }
@@ -2,7 +2,9 @@ package org.mazeApp.model.generator;
 
 import java.util.ArrayList;
 
+import org.mazeApp.model.EdgeBuffer;
 import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
 
 
 /**
@@ -35,7 +37,52 @@ public abstract class MazeGenerator {
      * @return Returns an ArrayList of {@link org.mazeApp.model.Edges} representing the maze
      */
     abstract public ArrayList<Edges> generate(int rows, int columns, int seed);
+
+    /**
+     * Primitive variant of {@link #generate(int, int, int)}: the passages are
+     * returned packed in an {@link EdgeBuffer}, in the same order, without one
+     * object per passage. Generators override it to avoid building the list at all.
+     * @param rows Number of rows in the Maze
+     * @param columns Number of columns in the Maze
+     * @param seed Seed Number of the Maze
+     * @return Returns the passages of the maze, in generation order
+     */
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        return EdgeBuffer.fromEdges(generate(rows, columns, seed));
+    }
     
+    /**
+     * Generates a maze directly into a grid storage, which may hold more than
+     * 2^31 cells. The storage is expected to have all its walls present.
+     * This default implementation goes through {@link #generatePacked(int, int, int)},
+     * so it only accepts mazes addressable with int indices; generators override
+     * it with a long-indexed version.
+     * @param maze the storage to fill
+     * @param seed Seed Number of the Maze
+     */
+    public void generateInto(GridMaze maze, int seed) {
+        EdgeBuffer edges = generatePacked(maze.getRows(), maze.getColumns(), seed);
+        for (int i = 0; i < edges.size(); i++) {
+            maze.addEdge(edges.sourceAt(i), edges.destinationAt(i));
+        }
+    }
+
+    /**
+     * Returns the number of cells of a maze generated with int indices.
+     * @param rows Number of rows in the Maze
+     * @param columns Number of columns in the Maze
+     * @return the number of cells
+     * @throws IllegalArgumentException if the maze has more than 2^31 - 1 cells
+     */
+    protected static int cellCount(int rows, int columns) {
+        long cells = (long) rows * columns;
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze of " + rows + "x" + columns
+                + " cells is too large for int indices, use generateInto with a GridMaze");
+        }
+        return (int) cells;
+    }
+
     /**
      * @return Returns the algorithm's name used for the maze genaration proccess. 
      * */
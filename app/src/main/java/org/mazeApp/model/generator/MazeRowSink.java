@@ -0,0 +1,131 @@
+package org.mazeApp.model.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.GridMaze;
+
+/**
+ * Receives a maze one row at a time, as produced by a {@link RowMazeGenerator}.
+ * <p>
+ * A row is given as two bit sets packed in {@code long} words: bit {@code c} of
+ * {@code east} is set when cell {@code c} is open towards cell {@code c + 1},
+ * bit {@code c} of {@code south} when it is open towards the same column of the
+ * next row. The arrays are reused for the next row, so a sink that keeps them
+ * must copy them. Rows can then go straight to a file or a renderer without the
+ * maze ever being held in memory.
+ * </p>
+ * <pre>{@code
+ * new EllerGenerator().generateRows(1_000_000_000L, 64, seed,
+ *         (row, east, south) -> out.write(encode(east, south)));
+ * }</pre>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface MazeRowSink {
+
+    /**
+     * Called for each row, from the first to the last.
+     *
+     * @param row index of the row
+     * @param east passages towards the next column, one bit per cell
+     * @param south passages towards the next row, one bit per cell, all clear on the last row
+     */
+    void acceptRow(long row, long[] east, long[] south);
+
+    /**
+     * Returns a sink opening the passages in a grid storage, which may be
+     * larger than 2^31 cells or paged from a file.
+     *
+     * @param maze the storage to fill
+     * @return a new sink
+     */
+    static MazeRowSink into(GridMaze maze) {
+        long columns = maze.getColumns();
+        return (row, east, south) -> {
+            long first = row * columns;
+            for (int col = 0; col < columns; col++) {
+                if (isSet(east, col)) {
+                    maze.addEdge(first + col, first + col + 1);
+                }
+                if (isSet(south, col)) {
+                    maze.addEdge(first + col, first + col + columns);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a sink appending the passages to a buffer, row by row, the east
+     * passage of a cell before its south passage.
+     *
+     * @param edges the buffer to fill
+     * @param columns number of columns of the maze
+     * @return a new sink
+     */
+    static MazeRowSink into(EdgeBuffer edges, int columns) {
+        return (row, east, south) -> {
+            int first = Math.toIntExact(row * columns);
+            for (int col = 0; col < columns; col++) {
+                if (isSet(east, col)) {
+                    edges.add(first + col, first + col + 1);
+                }
+                if (isSet(south, col)) {
+                    edges.add(first + col, first + col + columns);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a sink writing the rows to a stream, for mazes too large for any
+     * storage but a file: each row is written as its east words followed by
+     * its south words, 64-bit little-endian, so a file of {@code rows} rows of
+     * {@code words = (columns + 63) / 64} takes {@code 16 * words} bytes per row
+     * and row {@code r} starts at byte {@code 16 * words * r}. The stream is
+     * neither buffered nor closed by the sink.
+     *
+     * @param out the stream receiving the rows, preferably buffered
+     * @return a new sink
+     * @throws UncheckedIOException from {@link #acceptRow} if the stream fails
+     */
+    static MazeRowSink to(OutputStream out) {
+        return new MazeRowSink() {
+            private byte[] bytes = new byte[0];
+            private LongBuffer words;
+
+            @Override
+            public void acceptRow(long row, long[] east, long[] south) {
+                int length = (east.length + south.length) * Long.BYTES;
+                if (bytes.length != length) {
+                    bytes = new byte[length];
+                    words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+                }
+                words.clear();
+                words.put(east).put(south);
+                try {
+                    out.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot write row " + row, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Checks a bit of a row.
+     *
+     * @param bits the row
+     * @param col the column
+     * @return true if the bit of the column is set
+     */
+    static boolean isSet(long[] bits, int col) {
+        return (bits[col >>> 6] & (1L << col)) != 0;
+    }
+}
@@ -0,0 +1,256 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+
+/**
+ * Generates a maze in parallel by cutting the grid into square tiles.
+ * <p>
+ * Every tile is generated on its own by another generator, on a fork/join pool,
+ * with a seed drawn from the maze seed in tile order. The tiles are then joined
+ * by a random spanning tree over the tile grid: each tree edge opens one passage
+ * at a random place of the border between two tiles. With a generator of perfect
+ * mazes, the result is a perfect maze (exactly V - 1 passages, all connected).
+ * </p>
+ * <p>
+ * The passages only depend on the seed, never on the number of threads: tiles
+ * are collected in tile order, followed by the joining passages.
+ * </p>
+ * <pre>{@code
+ * MazeGenerator generator = new ParallelTiledGenerator(new DFSGenerator());
+ * EdgeBuffer passages = generator.generatePacked(4000, 4000, seed);
+ * }</pre>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class ParallelTiledGenerator extends MazeGenerator {
+
+    /** Default side of a tile, in cells. */
+    public static final int DEFAULT_TILE_SIZE = 128;
+
+    private final MazeGenerator tileGenerator;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a generator with tiles of {@link #DEFAULT_TILE_SIZE} cells,
+     * running on the common fork/join pool.
+     *
+     * @param tileGenerator the generator of each tile, called from several threads at once
+     */
+    public ParallelTiledGenerator(MazeGenerator tileGenerator) {
+        this(tileGenerator, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Creates a generator running on the common fork/join pool.
+     *
+     * @param tileGenerator the generator of each tile, called from several threads at once
+     * @param tileSize side of a tile, in cells
+     */
+    public ParallelTiledGenerator(MazeGenerator tileGenerator, int tileSize) {
+        this(tileGenerator, tileSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param tileGenerator the generator of each tile, called from several threads at once
+     * @param tileSize side of a tile, in cells
+     * @param pool the pool running the tiles
+     */
+    public ParallelTiledGenerator(MazeGenerator tileGenerator, int tileSize, ForkJoinPool pool) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Invalid tile size: " + tileSize);
+        }
+        this.tileGenerator = tileGenerator;
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        int tileRows = (rows + tileSize - 1) / tileSize;
+        int tileColumns = (columns + tileSize - 1) / tileSize;
+        int tileCount = tileRows * tileColumns;
+
+        // Drawn in tile order, so that each tile gets the same seed whatever the thread running it
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int[] tileSeeds = new int[tileCount];
+        for (int tile = 0; tile < tileCount; tile++) {
+            tileSeeds[tile] = rnd.nextInt();
+        }
+
+        EdgeBuffer[] tiles = new EdgeBuffer[tileCount];
+        pool.invoke(new TileTask(rows, columns, tileColumns, tileSeeds, tiles, 0, tileCount));
+
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        for (EdgeBuffer tile : tiles) {
+            generationSteps.addAll(tile);
+        }
+        joinTiles(rows, columns, tileRows, tileColumns, rnd, generationSteps);
+        return generationSteps;
+    }
+
+    /**
+     * Generates a range of tiles, splitting it in two until a single tile is left.
+     */
+    private final class TileTask extends RecursiveAction {
+        // Fork/join tasks are never serialized, the tiles are shared in memory only
+        private static final long serialVersionUID = 1L;
+        private final int rows;
+        private final int columns;
+        private final int tileColumns;
+        private final int[] tileSeeds;
+        private final transient EdgeBuffer[] tiles;
+        private final int from;
+        private final int to;
+
+        TileTask(int rows, int columns, int tileColumns, int[] tileSeeds, EdgeBuffer[] tiles, int from, int to) {
+            this.rows = rows;
+            this.columns = columns;
+            this.tileColumns = tileColumns;
+            this.tileSeeds = tileSeeds;
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TileTask(rows, columns, tileColumns, tileSeeds, tiles, from, middle),
+                          new TileTask(rows, columns, tileColumns, tileSeeds, tiles, middle, to));
+                return;
+            }
+            for (int tile = from; tile < to; tile++) {
+                tiles[tile] = generateTile(rows, columns, tile / tileColumns, tile % tileColumns, tileSeeds[tile]);
+            }
+        }
+    }
+
+    /**
+     * Generates one tile and translates its passages to maze indices.
+     */
+    private EdgeBuffer generateTile(int rows, int columns, int tileRow, int tileColumn, int seed) {
+        int firstRow = tileRow * tileSize;
+        int firstColumn = tileColumn * tileSize;
+        int height = Math.min(tileSize, rows - firstRow);
+        int width = Math.min(tileSize, columns - firstColumn);
+        EdgeBuffer local = tileGenerator.generatePacked(height, width, seed);
+        EdgeBuffer global = new EdgeBuffer(local.size());
+        int origin = firstRow * columns + firstColumn;
+        for (int i = 0; i < local.size(); i++) {
+            long edge = local.get(i);
+            global.add(toMaze(Edges.sourceOf(edge), width, columns, origin),
+                       toMaze(Edges.destinationOf(edge), width, columns, origin));
+        }
+        return global;
+    }
+
+    private static int toMaze(int vertex, int width, int columns, int origin) {
+        int row = vertex / width;
+        return origin + row * columns + (vertex - row * width);
+    }
+
+    /**
+     * Opens one passage between tiles for each edge of a random spanning tree of
+     * the tile grid, found with Kruskal on shuffled tile edges.
+     */
+    private void joinTiles(int rows, int columns, int tileRows, int tileColumns,
+                           SplittableRandom rnd, EdgeBuffer generationSteps) {
+        int tileCount = tileRows * tileColumns;
+        // Tile edge ids are 2 * tile + direction (0 = east, 1 = south)
+        int[] tileEdges = new int[Math.max(0, tileRows * (tileColumns - 1) + (tileRows - 1) * tileColumns)];
+        int count = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            if (tile % tileColumns < tileColumns - 1) {
+                tileEdges[count++] = 2 * tile;
+            }
+            if (tile + tileColumns < tileCount) {
+                tileEdges[count++] = 2 * tile + 1;
+            }
+        }
+        for (int i = count; i > 1; i--) {
+            int j = rnd.nextInt(i);
+            int tmp = tileEdges[i - 1];
+            tileEdges[i - 1] = tileEdges[j];
+            tileEdges[j] = tmp;
+        }
+
+        int[] parent = new int[tileCount];
+        for (int i = 0; i < tileCount; i++) {
+            parent[i] = i;
+        }
+        for (int id : tileEdges) {
+            int tile = id >>> 1;
+            boolean south = (id & 1) != 0;
+            int other = south ? tile + tileColumns : tile + 1;
+            int tileRoot = find(parent, tile);
+            int otherRoot = find(parent, other);
+            if (tileRoot == otherRoot) {
+                continue;
+            }
+            parent[tileRoot] = otherRoot;
+
+            int firstRow = (tile / tileColumns) * tileSize;
+            int firstColumn = (tile % tileColumns) * tileSize;
+            int source;
+            int destination;
+            if (south) {
+                // Any column of the border, on the last row of the tile
+                int width = Math.min(tileSize, columns - firstColumn);
+                source = (firstRow + tileSize - 1) * columns + firstColumn + rnd.nextInt(width);
+                destination = source + columns;
+            } else {
+                // Any row of the border, on the last column of the tile
+                int height = Math.min(tileSize, rows - firstRow);
+                source = (firstRow + rnd.nextInt(height)) * columns + firstColumn + tileSize - 1;
+                destination = source + 1;
+            }
+            generationSteps.add(source, destination);
+        }
+    }
+
+    /**
+     * Finds the root of a tile, halving the path on the way.
+     */
+    private static int find(int[] parent, int tile) {
+        while (parent[tile] != tile) {
+            parent[tile] = parent[parent[tile]];
+            tile = parent[tile];
+        }
+        return tile;
+    }
+
+    /**
+     * {@return the generator of each tile}
+     */
+    public MazeGenerator getTileGenerator() {
+        return tileGenerator;
+    }
+
+    /**
+     * {@return the side of a tile, in cells}
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    @Override
+    public String getName() {
+        return "Tiled " + tileGenerator.getName();
+    }
+}
@@ -0,0 +1,117 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.PaddedGrid;
+
+/**
+ * Generates a maze with the randomized Prim algorithm, which grows the maze
+ * from a random cell by attaching a random frontier cell at each step. The
+ * result has many short dead ends, unlike the long corridors of
+ * {@link DFSGenerator}.
+ * <p>
+ * The frontier (cells next to the maze but not in it) is kept in {@code int[]}
+ * arrays, padded and public indices side by side, with a bit set marking the
+ * cells ever added to it: a random cell is picked in O(1) and removed by swapping
+ * it with the last one. A cell is in the maze once it has a passage, so the
+ * padded grid and the bit set are the only per-cell state.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class PrimGenerator extends MazeGenerator {
+
+    private final mazeType typeMazeGenerated;
+
+    public PrimGenerator(boolean isImperfect) {
+        this.typeMazeGenerated = isImperfect ? mazeType.IMPERFECT : mazeType.PERFECT;
+    }
+
+    public PrimGenerator() {
+        this(false);
+    }
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        if (cellCount == 0) {
+            return generationSteps;
+        }
+        PaddedGrid grid = new PaddedGrid(rows, columns);
+        int[] offsets = grid.getOffsets();
+        int[] vertexOffsets = grid.getVertexOffsets();
+        long[] inFrontier = new long[(grid.size() + 63) >>> 6];
+        // At most every cell but the first is in the frontier
+        int[] frontierCells = new int[cellCount];
+        int[] frontierVertices = new int[cellCount];
+        int frontierSize = 0;
+        int[] directions = new int[4];
+        SplittableRandom rnd = new SplittableRandom(seed);
+
+        int vertex = rnd.nextInt(cellCount);
+        int cell = grid.toPadded(vertex);
+        int start = cell;
+        while (true) {
+            // Add the neighbours of the new cell that are neither in the maze nor in the frontier
+            for (int direction = 0; direction < 4; direction++) {
+                int neighbour = cell + offsets[direction];
+                if (!grid.isBorder(neighbour) && neighbour != start && grid.isClosed(neighbour)
+                        && (inFrontier[neighbour >>> 6] & (1L << neighbour)) == 0) {
+                    inFrontier[neighbour >>> 6] |= 1L << neighbour;
+                    frontierCells[frontierSize] = neighbour;
+                    frontierVertices[frontierSize] = vertex + vertexOffsets[direction];
+                    frontierSize++;
+                }
+            }
+            if (frontierSize == 0) {
+                break;
+            }
+
+            int pick = rnd.nextInt(frontierSize);
+            cell = frontierCells[pick];
+            vertex = frontierVertices[pick];
+            frontierSize--;
+            frontierCells[pick] = frontierCells[frontierSize];
+            frontierVertices[pick] = frontierVertices[frontierSize];
+
+            // Attach it to one of its neighbours already in the maze
+            int count = 0;
+            for (int direction = 0; direction < 4; direction++) {
+                int neighbour = cell + offsets[direction];
+                // In the maze: the first cell, or any cell with a passage
+                if (!grid.isBorder(neighbour) && (neighbour == start || !grid.isClosed(neighbour))) {
+                    directions[count++] = direction;
+                }
+            }
+            int direction = directions[count == 1 ? 0 : rnd.nextInt(count)];
+            generationSteps.add(vertex + vertexOffsets[direction], vertex);
+            grid.open(cell, direction);
+        }
+
+        if (typeMazeGenerated == mazeType.IMPERFECT) {
+            EdgeBuffer imperfectGenerationSteps = new EdgeBuffer(generationSteps.size());
+            int probabilityToRemove = 5;
+            for (int i = 0; i < generationSteps.size(); i++) {
+                if (rnd.nextInt(100) > probabilityToRemove) {
+                    imperfectGenerationSteps.addPacked(generationSteps.get(i));
+                }
+            }
+            return imperfectGenerationSteps;
+        }
+        return generationSteps;
+    }
+
+    @Override
+    public String getName() {
+        return "Prim";
+    }
+}
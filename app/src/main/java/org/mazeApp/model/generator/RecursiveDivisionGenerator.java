@@ -0,0 +1,212 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+
+/**
+ * Generates a perfect maze by recursive division, on a fork/join pool.
+ * <p>
+ * The grid starts fully open, as one chamber. A chamber is cut in two by a wall
+ * across its shorter side, with a single gap at a random place, and both halves
+ * are divided again until they are one cell wide. Instead of removing passages
+ * from an open grid, the generator emits the passages that survive: the gaps,
+ * and the corridors left in the one-cell-wide chambers.
+ * </p>
+ * <p>
+ * A chamber of {@code w x h} cells always ends with {@code w * h - 1} passages,
+ * so each chamber writes to its own range of the result and both halves of a
+ * chamber larger than the fork threshold are divided in parallel. The random
+ * choices of a chamber are drawn from a hash of the seed and of the chamber
+ * itself, not from a shared generator, so the maze only depends on the seed,
+ * whatever the threshold, the number of threads or the order of the tasks.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class RecursiveDivisionGenerator extends MazeGenerator {
+
+    /** Default number of cells from which a chamber is divided in parallel. */
+    public static final int DEFAULT_FORK_THRESHOLD = 1 << 14;
+
+    private final int forkThreshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a generator running on the common fork/join pool.
+     */
+    public RecursiveDivisionGenerator() {
+        this(DEFAULT_FORK_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param forkThreshold number of cells from which a chamber is divided in parallel
+     * @param pool the pool running the chambers
+     */
+    public RecursiveDivisionGenerator(int forkThreshold, ForkJoinPool pool) {
+        if (forkThreshold <= 0) {
+            throw new IllegalArgumentException("Invalid fork threshold: " + forkThreshold);
+        }
+        this.forkThreshold = forkThreshold;
+        this.pool = pool;
+    }
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        long[] passages = new long[Math.max(0, cellCount - 1)];
+        if (cellCount > 0) {
+            pool.invoke(new ChamberTask(new Division(columns, mix(seed), passages), 0, 0, rows, columns, 0));
+        }
+        return EdgeBuffer.wrap(passages);
+    }
+
+    /**
+     * State shared by all the chambers of one maze.
+     */
+    private static final class Division {
+        final int columns;
+        final long key;
+        final long[] passages;
+
+        Division(int columns, long key, long[] passages) {
+            this.columns = columns;
+            this.key = key;
+            this.passages = passages;
+        }
+    }
+
+    /**
+     * Divides a chamber, forking both halves while they are large enough.
+     */
+    private final class ChamberTask extends RecursiveAction {
+        // Fork/join tasks are never serialized, the division is shared in memory only
+        private static final long serialVersionUID = 1L;
+        private final transient Division division;
+        private final int row;
+        private final int col;
+        private final int height;
+        private final int width;
+        private final int out;
+
+        ChamberTask(Division division, int row, int col, int height, int width, int out) {
+            this.division = division;
+            this.row = row;
+            this.col = col;
+            this.height = height;
+            this.width = width;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            if ((long) height * width < forkThreshold || height == 1 || width == 1) {
+                divide(division, row, col, height, width, out);
+                return;
+            }
+            long random = chamberRandom(division.key, row, col, height, width);
+            if (cutsRows(height, width, random)) {
+                int top = 1 + bounded(random, 1, height - 1);
+                openRowGap(division, row, col, top, width, random, out + height * width - 2);
+                invokeAll(new ChamberTask(division, row, col, top, width, out),
+                          new ChamberTask(division, row + top, col, height - top, width, out + top * width - 1));
+            } else {
+                int left = 1 + bounded(random, 1, width - 1);
+                openColumnGap(division, row, col, height, left, random, out + height * width - 2);
+                invokeAll(new ChamberTask(division, row, col, height, left, out),
+                          new ChamberTask(division, row, col + left, height, width - left, out + height * left - 1));
+            }
+        }
+    }
+
+    /**
+     * Divides a chamber on the current thread, writing its {@code height * width - 1}
+     * passages from {@code out}: the first half, the second half, then the gap.
+     */
+    private static void divide(Division division, int row, int col, int height, int width, int out) {
+        if (height == 1 || width == 1) {
+            // Corridor: every passage inside stays open
+            int step = height == 1 ? 1 : division.columns;
+            int cell = row * division.columns + col;
+            for (int i = 0, length = height * width - 1; i < length; i++, cell += step) {
+                division.passages[out + i] = Edges.pack(cell, cell + step);
+            }
+            return;
+        }
+        long random = chamberRandom(division.key, row, col, height, width);
+        if (cutsRows(height, width, random)) {
+            int top = 1 + bounded(random, 1, height - 1);
+            divide(division, row, col, top, width, out);
+            divide(division, row + top, col, height - top, width, out + top * width - 1);
+            openRowGap(division, row, col, top, width, random, out + height * width - 2);
+        } else {
+            int left = 1 + bounded(random, 1, width - 1);
+            divide(division, row, col, height, left, out);
+            divide(division, row, col + left, height, width - left, out + height * left - 1);
+            openColumnGap(division, row, col, height, left, random, out + height * width - 2);
+        }
+    }
+
+    /**
+     * Chooses the wall direction: across the shorter side, so a tall chamber is cut
+     * into rows, at random for a square.
+     */
+    private static boolean cutsRows(int height, int width, long random) {
+        return height > width || (height == width && (random & 1) == 0);
+    }
+
+    /**
+     * Opens the gap of a horizontal wall below the first {@code top} rows of a chamber.
+     */
+    private static void openRowGap(Division division, int row, int col, int top, int width, long random, int out) {
+        int cell = (row + top - 1) * division.columns + col + bounded(random, 2, width);
+        division.passages[out] = Edges.pack(cell, cell + division.columns);
+    }
+
+    /**
+     * Opens the gap of a vertical wall right of the first {@code left} columns of a chamber.
+     */
+    private static void openColumnGap(Division division, int row, int col, int height, int left, long random, int out) {
+        int cell = (row + bounded(random, 2, height)) * division.columns + col + left - 1;
+        division.passages[out] = Edges.pack(cell, cell + 1);
+    }
+
+    /**
+     * Hashes the seed with a chamber, which is never divided twice in a maze.
+     */
+    private static long chamberRandom(long key, int row, int col, int height, int width) {
+        return mix(mix(key ^ Edges.pack(row, col)) ^ Edges.pack(height, width));
+    }
+
+    /**
+     * Draws a value in [0, bound) from one of the 21-bit slices of a random word.
+     */
+    private static int bounded(long random, int slice, int bound) {
+        return (int) (((random >>> (21 * slice)) & 0x1FFFFF) * bound >>> 21);
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads the bits of a value over the whole word.
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String getName() {
+        return "Recursive division";
+    }
+}
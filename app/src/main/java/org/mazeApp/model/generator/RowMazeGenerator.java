@@ -0,0 +1,20 @@
+package org.mazeApp.model.generator;
+
+/**
+ * Generator producing a maze row by row with a memory proportional to the
+ * width only, so the height of the maze is not limited by memory.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public interface RowMazeGenerator {
+
+    /**
+     * Generates a maze and hands its rows to a sink, in order.
+     *
+     * @param rows number of rows, which may exceed the int range
+     * @param columns number of columns
+     * @param seed seed of the maze
+     * @param sink receiver of each row
+     */
+    void generateRows(long rows, int columns, int seed, MazeRowSink sink);
+}
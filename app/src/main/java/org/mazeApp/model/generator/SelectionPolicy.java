@@ -0,0 +1,163 @@
+package org.mazeApp.model.generator;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Chooses which active cell a {@link GrowingTreeGenerator} extends next.
+ * <p>
+ * The active cells are ordered from the oldest (position 0) to the newest
+ * (position {@code size - 1}). Always taking the newest gives long corridors,
+ * like {@link DFSGenerator}; taking one at random gives short dead ends, like
+ * {@link PrimGenerator}; taking the oldest gives long straight passages. The
+ * implementations are small final classes, so the call in the generation loop
+ * is inlined by the JIT.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface SelectionPolicy {
+
+    /**
+     * Chooses an active cell.
+     *
+     * @param size number of active cells, at least 1
+     * @param random the random generator of the maze
+     * @return the position of the cell, from 0 (oldest) to {@code size - 1} (newest)
+     */
+    int select(int size, SplittableRandom random);
+
+    /**
+     * {@return a policy always taking the newest cell}
+     */
+    static SelectionPolicy newest() {
+        return Newest.INSTANCE;
+    }
+
+    /**
+     * {@return a policy always taking the oldest cell}
+     */
+    static SelectionPolicy oldest() {
+        return Oldest.INSTANCE;
+    }
+
+    /**
+     * {@return a policy taking a cell at random}
+     */
+    static SelectionPolicy random() {
+        return Uniform.INSTANCE;
+    }
+
+    /**
+     * Returns a policy choosing between the newest, a random and the oldest cell
+     * at each step, in proportion to the given weights.
+     *
+     * @param newest weight of the newest cell
+     * @param random weight of a random cell
+     * @param oldest weight of the oldest cell
+     * @return a new policy
+     */
+    static SelectionPolicy mixed(double newest, double random, double oldest) {
+        return new Mixed(newest, random, oldest);
+    }
+
+    /**
+     * Takes the newest cell.
+     */
+    final class Newest implements SelectionPolicy {
+        static final Newest INSTANCE = new Newest();
+
+        private Newest() {
+        }
+
+        @Override
+        public int select(int size, SplittableRandom random) {
+            return size - 1;
+        }
+
+        @Override
+        public String toString() {
+            return "newest";
+        }
+    }
+
+    /**
+     * Takes the oldest cell.
+     */
+    final class Oldest implements SelectionPolicy {
+        static final Oldest INSTANCE = new Oldest();
+
+        private Oldest() {
+        }
+
+        @Override
+        public int select(int size, SplittableRandom random) {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "oldest";
+        }
+    }
+
+    /**
+     * Takes a cell at random.
+     */
+    final class Uniform implements SelectionPolicy {
+        static final Uniform INSTANCE = new Uniform();
+
+        private Uniform() {
+        }
+
+        @Override
+        public int select(int size, SplittableRandom random) {
+            return random.nextInt(size);
+        }
+
+        @Override
+        public String toString() {
+            return "random";
+        }
+    }
+
+    /**
+     * Takes the newest, a random or the oldest cell, in proportion to weights.
+     */
+    final class Mixed implements SelectionPolicy {
+        // Weights scaled to 2^24 and accumulated, compared with 24 random bits
+        private static final int SCALE = 1 << 24;
+        private final int newestLimit;
+        private final int randomLimit;
+        private final String description;
+
+        private Mixed(double newest, double random, double oldest) {
+            double total = newest + random + oldest;
+            if (!(newest >= 0 && random >= 0 && oldest >= 0 && total > 0 && total < Double.POSITIVE_INFINITY)) {
+                throw new IllegalArgumentException("Invalid weights: " + newest + ", " + random + ", " + oldest);
+            }
+            this.newestLimit = (int) Math.round(SCALE * newest / total);
+            this.randomLimit = (int) Math.round(SCALE * (newest + random) / total);
+            this.description = String.format(Locale.ROOT, "newest %.2f, random %.2f, oldest %.2f",
+                    newest / total, random / total, oldest / total);
+        }
+
+        @Override
+        public int select(int size, SplittableRandom random) {
+            int draw = random.nextInt(SCALE);
+            if (draw < newestLimit) {
+                return size - 1;
+            }
+            if (draw < randomLimit) {
+                return random.nextInt(size);
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
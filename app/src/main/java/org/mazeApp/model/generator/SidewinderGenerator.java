@@ -0,0 +1,102 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
+
+/**
+ * Generates a perfect maze with the sidewinder algorithm. Each row is cut into
+ * runs of cells joined east to east, and each run opens one passage south from
+ * a random cell; the last row is a single corridor. This is the usual algorithm
+ * turned upside down (runs go south instead of north), so that a row only
+ * depends on itself and is handed to the {@link MazeRowSink} as soon as it is
+ * built.
+ * <p>
+ * The ends of the runs are drawn 64 cells at a time from one random word, so a
+ * row costs one random word per 64 cells and one random position per run.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class SidewinderGenerator extends MazeGenerator implements RowMazeGenerator {
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        generateRows(rows, columns, seed, MazeRowSink.into(generationSteps, columns));
+        return generationSteps;
+    }
+
+    /**
+     * Streams the rows into the storage, see {@link EllerGenerator#generateInto(GridMaze, int)}.
+     *
+     * @param maze the storage to fill, expected to have all its walls present
+     * @param seed Seed Number of the Maze
+     */
+    @Override
+    public void generateInto(GridMaze maze, int seed) {
+        generateRows(maze.getRows(), maze.getColumns(), seed, MazeRowSink.into(maze));
+    }
+
+    @Override
+    public void generateRows(long rows, int columns, int seed, MazeRowSink sink) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + rows + "x" + columns);
+        }
+        if (rows == 0 || columns == 0) {
+            return;
+        }
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int words = (columns + 63) >>> 6;
+        int lastWord = words - 1;
+        long lastWordMask = -1L >>> (-columns & 63);
+        long lastColumn = 1L << (columns - 1);
+        long[] east = new long[words];
+        long[] south = new long[words];
+
+        for (long row = 0; row < rows - 1; row++) {
+            int runStart = 0;
+            for (int w = 0; w < words; w++) {
+                // A set bit ends the run on its cell, the last column always does
+                long ends = rnd.nextLong();
+                if (w == lastWord) {
+                    ends = (ends | lastColumn) & lastWordMask;
+                    east[w] = ~ends & lastWordMask;
+                } else {
+                    east[w] = ~ends;
+                }
+                // The south passage of a run is in this word or an earlier one
+                south[w] = 0;
+                while (ends != 0) {
+                    int runEnd = (w << 6) + Long.numberOfTrailingZeros(ends);
+                    int down = runStart + rnd.nextInt(runEnd - runStart + 1);
+                    south[down >>> 6] |= 1L << down;
+                    runStart = runEnd + 1;
+                    ends &= ends - 1;
+                }
+            }
+            sink.acceptRow(row, east, south);
+        }
+
+        // Last row: one corridor
+        Arrays.fill(east, -1L);
+        east[lastWord] = lastWordMask & ~lastColumn;
+        Arrays.fill(south, 0);
+        sink.acceptRow(rows - 1, east, south);
+    }
+
+    @Override
+    public String getName() {
+        return "Sidewinder";
+    }
+}
@@ -0,0 +1,179 @@
+package org.mazeApp.model.generator;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.PaddedGrid;
+
+/**
+ * Generates a perfect maze drawn uniformly among all the spanning trees of the
+ * grid with Wilson's algorithm, optionally preceded by an Aldous–Broder warm-up.
+ * <p>
+ * Wilson's algorithm runs a loop-erased random walk from every cell still
+ * outside the tree: each visited cell only remembers the direction it was last
+ * left by, so loops are erased by overwriting, and the walk is retraced from its
+ * start once it hits the tree.
+ * </p>
+ * <p>
+ * The warm-up is a random walk from a random cell that adds the passage to every
+ * cell it reaches for the first time, until a share of the cells
+ * ({@link #getWarmUpShare()}) is in the tree. It replaces the first Wilson walks,
+ * which are the longest since the tree is small, and roughly halves the
+ * generation time with a share around 0.3. Stopping Aldous–Broder early is not
+ * exactly uniform though (the first passages slightly favour some trees), so the
+ * default share is 0: studies that need an unbiased sample keep it, the hybrid is
+ * for large mazes where speed matters more. A share of 1 is Aldous–Broder alone,
+ * uniform again but slow to reach the last cells.
+ * </p>
+ * <p>
+ * Walks move on a {@link PaddedGrid}, so a step is an addition and a border
+ * check; the only per-cell state is one byte of direction and tree flag.
+ * Directions are drawn two bits at a time from a {@link SplittableRandom}.
+ * </p>
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+public class WilsonGenerator extends MazeGenerator {
+
+    /** Default share of the cells added by the Aldous–Broder warm-up: none, for an exact uniform sample. */
+    public static final double DEFAULT_WARM_UP_SHARE = 0;
+
+    /** Share of the cells for a fast hybrid, see {@link #WilsonGenerator(double)}. */
+    public static final double HYBRID_WARM_UP_SHARE = 0.3;
+
+    // Flag of a cell in the tree, the low bits hold the direction a walk left the cell by
+    private static final byte IN_TREE = 1 << 2;
+
+    private final double warmUpShare;
+
+    /**
+     * Creates a generator sampling exactly uniform mazes, without warm-up.
+     */
+    public WilsonGenerator() {
+        this(DEFAULT_WARM_UP_SHARE);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param warmUpShare share of the cells added by the Aldous–Broder warm-up,
+     *                    from 0 (Wilson's algorithm only) to 1 (Aldous–Broder only);
+     *                    values in between are faster but not exactly uniform
+     */
+    public WilsonGenerator(double warmUpShare) {
+        if (!(warmUpShare >= 0 && warmUpShare <= 1)) {
+            throw new IllegalArgumentException("Invalid warm-up share: " + warmUpShare);
+        }
+        this.warmUpShare = warmUpShare;
+    }
+
+    @Override
+    public ArrayList<Edges> generate(int rows, int columns, int seed) {
+        return generatePacked(rows, columns, seed).toEdgeList();
+    }
+
+    @Override
+    public EdgeBuffer generatePacked(int rows, int columns, int seed) {
+        int cellCount = cellCount(rows, columns);
+        EdgeBuffer generationSteps = new EdgeBuffer(Math.max(0, cellCount - 1));
+        if (cellCount == 0) {
+            return generationSteps;
+        }
+        PaddedGrid grid = new PaddedGrid(rows, columns);
+        int[] offsets = grid.getOffsets();
+        int[] vertexOffsets = grid.getVertexOffsets();
+        byte[] next = new byte[grid.size()];
+        SplittableRandom rnd = new SplittableRandom(seed);
+        RandomDirections directions = new RandomDirections(rnd);
+
+        // Aldous–Broder warm-up from a random cell
+        int vertex = rnd.nextInt(cellCount);
+        int cell = grid.toPadded(vertex);
+        next[cell] = IN_TREE;
+        long warmUpCells = Math.max(1, (long) Math.ceil(warmUpShare * cellCount));
+        for (long inTree = 1; inTree < warmUpCells; ) {
+            int direction = directions.next();
+            int neighbour = cell + offsets[direction];
+            if (grid.isBorder(neighbour)) {
+                continue;
+            }
+            int neighbourVertex = vertex + vertexOffsets[direction];
+            if ((next[neighbour] & IN_TREE) == 0) {
+                next[neighbour] = IN_TREE;
+                generationSteps.add(vertex, neighbourVertex);
+                inTree++;
+            }
+            cell = neighbour;
+            vertex = neighbourVertex;
+        }
+
+        // Wilson: a loop-erased walk from every cell left outside the tree
+        int stride = grid.getStride();
+        for (int row = 0; row < rows; row++) {
+            int start = grid.firstCell() + row * stride;
+            int startVertex = row * columns;
+            for (int col = 0; col < columns; col++, start++, startVertex++) {
+                if ((next[start] & IN_TREE) != 0) {
+                    continue;
+                }
+                cell = start;
+                while ((next[cell] & IN_TREE) == 0) {
+                    int direction = directions.next();
+                    if (!grid.isBorder(cell + offsets[direction])) {
+                        next[cell] = (byte) direction;
+                        cell += offsets[direction];
+                    }
+                }
+                cell = start;
+                vertex = startVertex;
+                while ((next[cell] & IN_TREE) == 0) {
+                    int direction = next[cell];
+                    int neighbourVertex = vertex + vertexOffsets[direction];
+                    generationSteps.add(vertex, neighbourVertex);
+                    next[cell] = IN_TREE;
+                    cell += offsets[direction];
+                    vertex = neighbourVertex;
+                }
+            }
+        }
+        return generationSteps;
+    }
+
+    /**
+     * Uniform directions taken two bits at a time from 64-bit random words.
+     */
+    private static final class RandomDirections {
+        private final SplittableRandom rnd;
+        private long bits;
+        private int left;
+
+        RandomDirections(SplittableRandom rnd) {
+            this.rnd = rnd;
+        }
+
+        int next() {
+            if (left == 0) {
+                bits = rnd.nextLong();
+                left = 32;
+            }
+            int direction = (int) (bits & 3);
+            bits >>>= 2;
+            left--;
+            return direction;
+        }
+    }
+
+    /**
+     * {@return the share of the cells added by the Aldous–Broder warm-up}
+     */
+    public double getWarmUpShare() {
+        return warmUpShare;
+    }
+
+    @Override
+    public String getName() {
+        return "Wilson";
+    }
+}
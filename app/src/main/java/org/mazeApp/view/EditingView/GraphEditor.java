@@ -1,6 +1,5 @@
 package org.mazeApp.view.EditingView;
 
-import org.mazeApp.model.Edges;
 import org.mazeApp.model.Graph;
 
 public class GraphEditor {
@@ -23,21 +22,14 @@ public class GraphEditor {
         }
 
         // Verification if edges already exist
-        boolean edgeExists = false;
-        for (Edges edge : graph.getGraphMaze().get(source)) {
-            if (edge.getDestination() == destination) {
-                edgeExists = true;
-                break;
-            }
-        }
-        if (edgeExists) {
+        if (graph.hasEdge(source, destination)) {
             System.out.println("Edge already exists between " + source + " and " + destination);
             return false;
         }
 
         //Adding vertices in a not oriented graph, edges are added in mirror ex: 2->1, 1->2 
-        graph.getGraphMaze().get(source).add(new Edges(source, destination));
-        graph.getGraphMaze().get(destination).add(new Edges(destination, source));
+        graph.addEdge(source, destination);
+        graph.snapshot(); // Publish the new version for background readers
 
         System.out.println("Edge successfully added between " + source + " and " + destination);
         return true;
@@ -54,23 +46,16 @@ public class GraphEditor {
         if (graph == null) return false;
         if (source == destination) return false;
 
-        boolean removed = false;
-
-        //Removes the selected edge from the sourceEdges list
-        for (Edges edge : new java.util.ArrayList<>(graph.getGraphMaze().get(source))) {
-            if (edge.getDestination() == destination) {
-                graph.getGraphMaze().get(source).remove(edge);
-                removed = true;
-                break;
-            }
+        int vertexCount = graph.getVertexNb();
+        if (source < 0 || destination < 0 || source >= vertexCount || destination >= vertexCount) {
+            return false;
         }
-        //Removes the selected edge from the destinationEdges list
-        for (Edges edge : new java.util.ArrayList<>(graph.getGraphMaze().get(destination))) {
-            if (edge.getDestination() == source) {
-                graph.getGraphMaze().get(destination).remove(edge);
-                removed = true;
-                break;
-            }
+
+        //Removes the selected edge from both adjacency lists
+        boolean removed = graph.hasEdge(source, destination);
+        if (removed) {
+            graph.removeEdge(source, destination);
+            graph.snapshot();
         }
 
         if (removed) {
@@ -1,6 +1,5 @@
 package org.mazeApp.view.EditingView;
 
-import org.mazeApp.model.Edges;
 import org.mazeApp.model.Graph;
 
 public class MazeEditor {
@@ -26,8 +25,8 @@ public class MazeEditor {
             return false;
         }
 
-        graph.getGraphMaze().get(cell1).add(new Edges(cell1, cell2));
-        graph.getGraphMaze().get(cell2).add(new Edges(cell2, cell1));
+        graph.addEdge(cell1, cell2);
+        graph.snapshot(); // Publish the new version for background readers
         System.out.println("Connexion ajoutée entre " + cell1 + " et " + cell2);
         return true;
     }
@@ -48,22 +47,10 @@ public class MazeEditor {
             return false;
         }
 
-        boolean removed = false;
-
-        for (Edges edge : new java.util.ArrayList<>(graph.getGraphMaze().get(cell1))) {
-            if (edge.getDestination() == cell2) {
-                graph.getGraphMaze().get(cell1).remove(edge);
-                removed = true;
-                break;
-            }
-        }
-
-        for (Edges edge : new java.util.ArrayList<>(graph.getGraphMaze().get(cell2))) {
-            if (edge.getDestination() == cell1) {
-                graph.getGraphMaze().get(cell2).remove(edge);
-                removed = true;
-                break;
-            }
+        boolean removed = graph.hasEdge(cell1, cell2);
+        if (removed) {
+            graph.removeEdge(cell1, cell2);
+            graph.snapshot();
         }
 
         if (removed) {
@@ -88,12 +75,7 @@ public class MazeEditor {
         int vertexCount = graph.getVertexNb();
         if (cell1 < 0 || cell2 < 0 || cell1 >= vertexCount || cell2 >= vertexCount) return false;
 
-        for (Edges edge : graph.getGraphMaze().get(cell1)) {
-            if (edge.getDestination() == cell2) {
-                return true;
-            }
-        }
-        return false;
+        return graph.hasEdge(cell1, cell2);
     }
 
     /**
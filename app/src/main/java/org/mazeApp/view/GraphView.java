@@ -1,9 +1,14 @@
 package org.mazeApp.view;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.mazeApp.model.Edges;
 import org.mazeApp.model.Graph;
+import org.mazeApp.model.GraphChangeListener;
+import org.mazeApp.model.GraphDelta;
+import org.mazeApp.model.GraphJournal;
 import org.mazeApp.view.EditingView.GraphEditor;
 
 import javafx.scene.layout.Pane;
@@ -40,6 +45,11 @@ public class GraphView extends Pane {
     private boolean edgeCreationMode = false;
     private double edgeStartX, edgeStartY;
     private final double HOVER_THRESHOLD = 10.0;
+
+    // Edges drawn by the last draw(), keyed by the packed pair of vertices
+    private final Map<Long, Line> edgeLines = new HashMap<>();
+    private double drawnCellSize, drawnLineWidth;
+    private final GraphChangeListener changeListener = (changed, delta) -> applyChanges(delta);
     
     // Colors for the UI
     private final Color EDGE_HOVER_COLOR = Color.RED;
@@ -211,15 +221,7 @@ public class GraphView extends Pane {
                 if (j == -1) continue;
                 
                 // Verify if an edge is already there
-                boolean edgeExists = false;
-                for (Edges edge : currentGraph.getGraphMaze().get(i)) {
-                    if (edge.getDestination() == j) {
-                        edgeExists = true;
-                        break;
-                    }
-                }
-                
-                if (!edgeExists) {
+                if (!currentGraph.hasEdge(i, j)) {
                     int row2 = j / columns;
                     int col2 = j % columns;
                     double x2 = col2 * cellSize + padding;
@@ -272,13 +274,13 @@ public class GraphView extends Pane {
         int columns = currentGraph.getColumns();
         double cellSize = calculateCellSize(rows, columns);
         
-        for (int i = 0; i < currentGraph.getGraphMaze().size(); i++) {
+        for (int i = 0; i < currentGraph.getVertexNb(); i++) {
             int row1 = i / columns;
             int col1 = i % columns;
             double x1 = col1 * cellSize + padding;
             double y1 = row1 * cellSize + padding;
             
-            for (Edges edge : currentGraph.getGraphMaze().get(i)) {
+            for (Edges edge : currentGraph.getEdges(i)) {
                 int j = edge.getDestination();
                 // Dodge duplicate terms
                 if (i >= j) continue;
@@ -380,12 +382,8 @@ public class GraphView extends Pane {
     }
     
     private void addEdge(int source, int destination) {
-        if (graphEditor.addEdge(currentGraph, source, destination)) {
-            draw(currentGraph);
-            if (associatedMazeView != null) {
-                associatedMazeView.draw();
-            }
-        }
+        // Both views follow the change through their graph listener
+        graphEditor.addEdge(currentGraph, source, destination);
     }
 
     
@@ -395,10 +393,32 @@ public class GraphView extends Pane {
      * @param destination the destination vertex
      */
     private void removeEdge(int source, int destination) {
-        if (graphEditor.removeEdge(currentGraph, source, destination)) {
+        graphEditor.removeEdge(currentGraph, source, destination);
+    }
+
+    /**
+     * Update only the edges touched by a batch of graph mutations.
+     * A full redraw is done if the batch cannot be applied edge by edge.
+     * @param delta the mutations since the last notification
+     */
+    private void applyChanges(GraphDelta delta) {
+        if (delta.requiresFullRefresh()) {
             draw(currentGraph);
-            if (associatedMazeView != null) {
-                associatedMazeView.draw();
+            return;
+        }
+        for (int i = 0; i < delta.size(); i++) {
+            int source = delta.getSource(i);
+            int destination = delta.getDestination(i);
+            Line line = edgeLines.get(Edges.pack(Math.min(source, destination), Math.max(source, destination)));
+            if (delta.getOperation(i) == GraphJournal.Operation.ADD_EDGE) {
+                if (line == null) {
+                    line = createEdgeLine(source, destination, currentGraph.getColumns());
+                    // Keep the edges under the vertices
+                    getChildren().add(0, line);
+                }
+                line.setVisible(true);
+            } else if (line != null && !currentGraph.hasEdge(source, destination)) {
+                line.setVisible(false);
             }
         }
     }
@@ -409,12 +429,19 @@ public class GraphView extends Pane {
      */
     public void draw(Graph graph) {
         getChildren().clear();
-        if (graph == null || graph.getGraphMaze() == null) {
+        edgeLines.clear();
+        if (graph == null) {
             System.out.println("Error : the graph is null or invalid");
             return;
         }
         
-        // Stock the current graph
+        // Stock the current graph and follow its changes
+        if (graph != currentGraph) {
+            if (currentGraph != null) {
+                currentGraph.removeChangeListener(changeListener);
+            }
+            graph.addChangeListener(changeListener);
+        }
         this.currentGraph = graph;
 
         // Recup the graph's size
@@ -426,6 +453,8 @@ public class GraphView extends Pane {
         double cellSize = calculateCellSize(rows, columns);
         double vertexRadius = calculateVertexRadius(cellSize);
         double lineWidth = calculateLineWidth(cellSize);
+        this.drawnCellSize = cellSize;
+        this.drawnLineWidth = lineWidth;
 
         drawEdges(graph, columns, cellSize, lineWidth); 
         drawVertices(totalVertices, columns, cellSize, vertexRadius); 
@@ -440,29 +469,29 @@ public class GraphView extends Pane {
      * @param lineWidth Épaisseur des lignes
      */
     private void drawEdges(Graph graph, int columns, double cellSize, double lineWidth) {
-        for (int i = 0; i < graph.getGraphMaze().size(); i++) {
-            int row = i / columns;
-            int col = i % columns;
-
-            double x = col * cellSize + padding;
-            double y = row * cellSize + padding;
-
-            for (Edges edge : graph.getGraphMaze().get(i)) {
-                int destIndex = edge.getDestination();
-                if (destIndex < i) continue; 
-
-                int destRow = destIndex / columns;
-                int destCol = destIndex % columns;
-
-                double destX = destCol * cellSize + padding;
-                double destY = destRow * cellSize + padding;
+        graph.uniqueEdges().forEach(edge ->
+            getChildren().add(createEdgeLine(Edges.sourceOf(edge), Edges.destinationOf(edge), columns)));
+    }
 
-                Line line = new Line(x, y, destX, destY);
-                line.setStroke(Color.GRAY);
-                line.setStrokeWidth(lineWidth);
-                getChildren().add(line);
-            }
-        }
+    /**
+     * Create the line of an edge with the geometry of the last draw and remember it.
+     *
+     * @param source first vertex
+     * @param destination second vertex
+     * @param columns number of columns of the grid
+     * @return the new line, not yet added to the view
+     */
+    private Line createEdgeLine(int source, int destination, int columns) {
+        double x = (source % columns) * drawnCellSize + padding;
+        double y = (source / columns) * drawnCellSize + padding;
+        double destX = (destination % columns) * drawnCellSize + padding;
+        double destY = (destination / columns) * drawnCellSize + padding;
+
+        Line line = new Line(x, y, destX, destY);
+        line.setStroke(Color.GRAY);
+        line.setStrokeWidth(drawnLineWidth);
+        edgeLines.put(Edges.pack(Math.min(source, destination), Math.max(source, destination)), line);
+        return line;
     }
 
     /**
@@ -8,6 +8,9 @@ import java.util.Map;
 
 import org.mazeApp.model.Edges;
 import org.mazeApp.model.Graph;
+import org.mazeApp.model.GraphDelta;
+import org.mazeApp.model.GraphJournal;
+import org.mazeApp.model.PaddedGrid;
 import org.mazeApp.view.EditingView.MazeEditor;
 
 import javafx.animation.KeyFrame;
@@ -59,6 +62,10 @@ public class MazeView extends Pane {
     private Map<Pair<Integer, Integer>, Line> edgeLines = new HashMap<>();
     private Map<Pair<Integer, Integer>, Integer> edgeStates = new HashMap<>();
 
+    // Interior walls drawn by the last draw(), keyed by the packed pair of cells they separate
+    private Map<Long, Line> wallLines = new HashMap<>();
+    private double drawnCellSize, drawnWallThickness, drawnOffsetX, drawnOffsetY;
+
     /**
      * Constructor for the initial graph
      * @param graph the graph representing the maze
@@ -66,6 +73,9 @@ public class MazeView extends Pane {
     public MazeView(Graph graph) {
         this.currentGraph = graph;
         mazeEditor=new MazeEditor();
+        if (graph != null) {
+            graph.addChangeListener((changed, delta) -> applyChanges(delta));
+        }
         initializeView();
         setupEventHandlers();
     }
@@ -80,6 +90,9 @@ public class MazeView extends Pane {
         this.currentGraph = graph;
         this.associatedGraphView = graphView;
         mazeEditor=new MazeEditor();
+        if (graph != null) {
+            graph.addChangeListener((changed, delta) -> applyChanges(delta));
+        }
         initializeView();
         setupEventHandlers();
     }
@@ -349,14 +362,71 @@ private boolean areConnected(int cell1, int cell2) {
      * 
      */
     private void toggleWall(int cell1, int cell2) {
-        if (mazeEditor.toggleConnection(currentGraph, cell1, cell2)) {
+        // Both views follow the change through their graph listener
+        mazeEditor.toggleConnection(currentGraph, cell1, cell2);
+    }
+
+    /**
+     * Update only the walls touched by a batch of graph mutations.
+     * A full redraw is done if the batch cannot be applied edge by edge.
+     * @param delta the mutations since the last notification
+     */
+    private void applyChanges(GraphDelta delta) {
+        if (drawnCellSize <= 0) {
+            return; // Not drawn yet, the first draw reads the whole graph
+        }
+        if (delta.requiresFullRefresh()) {
             draw();
-            if (associatedGraphView != null) {
-                associatedGraphView.draw(currentGraph);
+            return;
+        }
+        for (int i = 0; i < delta.size(); i++) {
+            int source = delta.getSource(i);
+            int destination = delta.getDestination(i);
+            Line wall = wallLines.get(Edges.pack(Math.min(source, destination), Math.max(source, destination)));
+            if (delta.getOperation(i) == GraphJournal.Operation.ADD_EDGE) {
+                if (wall != null) {
+                    wall.setVisible(false);
+                }
+            } else if (!currentGraph.hasEdge(source, destination)) {
+                if (wall == null) {
+                    wall = createWall(source, destination);
+                }
+                if (wall != null) {
+                    wall.setVisible(true);
+                }
             }
         }
     }
 
+    /**
+     * Create the line of the interior wall between two adjacent cells, with the
+     * geometry of the last draw.
+     * @param cell1 first cell
+     * @param cell2 second cell
+     * @return the new wall, or null if the cells are not adjacent
+     */
+    private Line createWall(int cell1, int cell2) {
+        int low = Math.min(cell1, cell2);
+        int high = Math.max(cell1, cell2);
+        int row = high / columns;
+        int col = high % columns;
+        Line wall;
+        if (high - low == columns) {
+            wall = new Line(col * drawnCellSize + drawnOffsetX, row * drawnCellSize + drawnOffsetY,
+                    (col + 1) * drawnCellSize + drawnOffsetX, row * drawnCellSize + drawnOffsetY);
+        } else if (high - low == 1 && col > 0) {
+            wall = new Line(col * drawnCellSize + drawnOffsetX, row * drawnCellSize + drawnOffsetY,
+                    col * drawnCellSize + drawnOffsetX, (row + 1) * drawnCellSize + drawnOffsetY);
+        } else {
+            return null;
+        }
+        wall.setStrokeWidth(drawnWallThickness);
+        wall.setStroke(Color.BLACK);
+        getChildren().add(wall);
+        wallLines.put(Edges.pack(low, high), wall);
+        return wall;
+    }
+
     
     /**
      * Draw the current graph
@@ -386,6 +456,7 @@ public void draw() {
     
     // Now clear and redraw the base maze
     getChildren().clear();
+    wallLines.clear();
 
     // Update the maze's dimensions
     this.rows = currentGraph.getRows();
@@ -399,6 +470,10 @@ public void draw() {
     double mazeHeight = rows * cellSize;
     double offsetX = (getWidth() - mazeWidth) / 2;
     double offsetY = (getHeight() - mazeHeight) / 2;
+    this.drawnCellSize = cellSize;
+    this.drawnWallThickness = wallThickness;
+    this.drawnOffsetX = offsetX;
+    this.drawnOffsetY = offsetY;
 
     // say all the walls are present
     boolean[][] horizontalWalls = new boolean[rows + 1][columns];
@@ -438,25 +513,16 @@ public void draw() {
      * @param verticalWalls list with all the vertical walls
      */
     private void removeWallsBasedOnEdges(boolean[][] horizontalWalls, boolean[][] verticalWalls) {
-        for (int i = 0; i < currentGraph.getGraphMaze().size(); i++) {
-            for (Edges edge : currentGraph.getGraphMaze().get(i)) {
-                int source = edge.getSource();
-                int dest = edge.getDestination();
-
-                // Avoid duplication
-                if (source >= dest) continue;
-
-                int sourceX = source % columns;
-                int sourceY = source / columns;
-                int destX = dest % columns;
-                int destY = dest / columns;
-
-                if (sourceX == destX) {
-                    int minY = Math.min(sourceY, destY);
-                    horizontalWalls[minY + 1][sourceX] = false;
-                } else if (sourceY == destY) {
-                    int minX = Math.min(sourceX, destX);
-                    verticalWalls[sourceY][minX+1] = false;
+        // Walk the cells row by row: only the right and down sides need to be checked
+        PaddedGrid grid = PaddedGrid.of(currentGraph);
+        int cell = grid.firstCell();
+        for (int i = 0; i < rows; i++, cell += 2) {
+            for (int j = 0; j < columns; j++, cell++) {
+                if (grid.isOpen(cell, PaddedGrid.RIGHT)) {
+                    verticalWalls[i][j + 1] = false;
+                }
+                if (grid.isOpen(cell, PaddedGrid.DOWN)) {
+                    horizontalWalls[i + 1][j] = false;
                 }
             }
         }
@@ -483,6 +549,9 @@ public void draw() {
                     wall.setStrokeWidth(wallThickness);
                     wall.setStroke(Color.BLACK);
                     getChildren().add(wall);
+                    if (i > 0 && i < rows) {
+                        wallLines.put(Edges.pack((i - 1) * columns + j, i * columns + j), wall);
+                    }
                 }
             }
         }
@@ -499,6 +568,9 @@ public void draw() {
                     wall.setStrokeWidth(wallThickness);
                     wall.setStroke(Color.BLACK);
                     getChildren().add(wall);
+                    if (j > 0 && j < columns) {
+                        wallLines.put(Edges.pack(i * columns + j - 1, i * columns + j), wall);
+                    }
                 }
             }
         }
@@ -658,9 +730,9 @@ public void draw() {
 
         Map<Pair<Integer, Integer>, Line> edgeLines = new HashMap<>();
 
-        for (Edges edgeObj : currentGraph.getEdges()) {
-            int from = edgeObj.getSource();
-            int to = edgeObj.getDestination();
+        currentGraph.uniqueEdges().forEach(packedEdge -> {
+            int from = Edges.sourceOf(packedEdge);
+            int to = Edges.destinationOf(packedEdge);
 
             int row1 = from / columns, col1 = from % columns;
             int row2 = to / columns, col2 = to % columns;
@@ -677,7 +749,7 @@ public void draw() {
 
             edgeLines.put(edge, line);
             getChildren().add(line);
-        }
+        });
 
         Timeline timeline = new Timeline();
 
@@ -748,9 +820,9 @@ public void draw() {
     
         Map<Pair<Integer, Integer>, Line> edgeLines = new HashMap<>();
     
-        for (Edges edgeObj : currentGraph.getEdges()) {
-            int from = edgeObj.getSource();
-            int to = edgeObj.getDestination();
+        currentGraph.uniqueEdges().forEach(packedEdge -> {
+            int from = Edges.sourceOf(packedEdge);
+            int to = Edges.destinationOf(packedEdge);
     
             int row1 = from / columns, col1 = from % columns;
             int row2 = to / columns, col2 = to % columns;
@@ -767,7 +839,7 @@ public void draw() {
     
             edgeLines.put(edge, line);
             getChildren().add(line);
-        }
+        });
     
         // Regrouper tous les bords de toutes les étapes
         HashSet<Pair<Integer, Integer>> allEdges = new HashSet<>();
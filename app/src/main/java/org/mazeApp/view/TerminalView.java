@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Scanner;
 import java.util.Set;
 
-import org.mazeApp.model.Edges;
 import org.mazeApp.model.Graph;
 import org.mazeApp.model.algorithms.AStarSolver;
 import org.mazeApp.model.algorithms.BFSsolver;
@@ -187,17 +186,13 @@ public class TerminalView {
      */
     public static void printAsciiMaze(Graph graph, int rows, int cols, List<Integer> path, int start, int end) {
         Set<Integer> pathSet = new HashSet<>(path);
-        var maze = graph.getGraphMaze();
 
         for (int r = 0; r < rows; r++) {
             // top border
             for (int c = 0; c < cols; c++) {
                 int idx = r * cols + c;
                 System.out.print("+");
-                boolean topOpen = false;
-                for (Edges e : maze.get(idx)) {
-                    if (e.getDestination() == idx - cols) topOpen = true;
-                }
+                boolean topOpen = idx >= cols && graph.hasEdge(idx, idx - cols);
                 System.out.print(topOpen ? "    " : "----");
             }
             System.out.println("+");
@@ -205,10 +200,7 @@ public class TerminalView {
             // content line
             for (int c = 0; c < cols; c++) {
                 int idx = r * cols + c;
-                boolean leftOpen = false;
-                for (Edges e : maze.get(idx)) {
-                    if (e.getDestination() == idx - 1) leftOpen = true;
-                }
+                boolean leftOpen = c > 0 && graph.hasEdge(idx, idx - 1);
                 System.out.print(leftOpen ? " " : "|");
                 String cell;
                 if (idx == start) cell = GREEN + " S " + RESET;
@@ -235,26 +227,19 @@ public class TerminalView {
      * @param cols the number of columns in the maze
      */
     public static void printAsciiMazeOnly(Graph graph, int rows, int cols) {
-        var maze = graph.getGraphMaze();
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
                 int idx = r * cols + c;
                 System.out.print("+");
-                boolean topOpen = false;
-                for (Edges e : maze.get(idx)) {
-                    if (e.getDestination() == idx - cols) topOpen = true;
-                }
+                boolean topOpen = idx >= cols && graph.hasEdge(idx, idx - cols);
                 System.out.print(topOpen ? "    " : "----");
             }
             System.out.println("+");
 
             for (int c = 0; c < cols; c++) {
                 int idx = r * cols + c;
-                boolean leftOpen = false;
-                for (Edges e : maze.get(idx)) {
-                    if (e.getDestination() == idx - 1) leftOpen = true;
-                }
+                boolean leftOpen = c > 0 && graph.hasEdge(idx, idx - 1);
                 System.out.print(leftOpen ? " " : "|");
                 String cell = String.format("%2d ", idx);
                 System.out.print(cell);
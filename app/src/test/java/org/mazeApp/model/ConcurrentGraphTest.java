@@ -0,0 +1,166 @@
+package org.mazeApp.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mazeApp.model.generator.KruskalGenerator;
+
+/**
+ * Checks that {@link ConcurrentGraph} ends up in the same state as a graph
+ * built on one thread when several threads write at once, within their own
+ * bands and across the bands of the others.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+class ConcurrentGraphTest {
+
+    private static final int ROWS = 96;
+    private static final int COLUMNS = 128;
+    private static final int BAND_ROWS = 4;
+    private static final int THREADS = 4;
+
+    private static ExecutorService writers;
+
+    @BeforeAll
+    static void createWriters() {
+        writers = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterAll
+    static void shutdownWriters() {
+        writers.shutdown();
+    }
+
+    @Test
+    void disjointBandsGiveTheSequentialGraph() throws Exception {
+        for (int seed = 0; seed < 5; seed++) {
+            EdgeBuffer maze = new KruskalGenerator().generatePacked(ROWS, COLUMNS, seed);
+            ConcurrentGraph graph = new ConcurrentGraph(ROWS, COLUMNS, BAND_ROWS);
+
+            // Each thread owns the passages starting in its bands, some of them end in the next band
+            List<EdgeBuffer> shares = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                shares.add(new EdgeBuffer());
+            }
+            for (int i = 0; i < maze.size(); i++) {
+                int source = Math.min(maze.sourceAt(i), maze.destinationAt(i));
+                shares.get(graph.bandOf(source) % THREADS).addPacked(maze.get(i));
+            }
+            runTogether(shares.stream().map(share -> (Runnable) () -> graph.addEdges(share)).toList());
+
+            assertSameGraph(maze, graph);
+        }
+    }
+
+    @Test
+    void overlappingWritersGiveTheSequentialGraph() throws Exception {
+        for (int seed = 0; seed < 5; seed++) {
+            EdgeBuffer maze = new KruskalGenerator().generatePacked(ROWS, COLUMNS, seed);
+            ConcurrentGraph graph = new ConcurrentGraph(ROWS, COLUMNS, BAND_ROWS);
+
+            // Every thread adds the whole maze in its own order, plus extra passages it removes again
+            List<Runnable> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long[] passages = shuffled(maze.toArray(), seed * THREADS + t);
+                EdgeBuffer extra = extraPassages(maze, seed * THREADS + t);
+                tasks.add(() -> {
+                    for (long passage : passages) {
+                        graph.addEdge(Edges.sourceOf(passage), Edges.destinationOf(passage));
+                        graph.addEdge(Edges.destinationOf(passage), Edges.sourceOf(passage));
+                    }
+                    graph.addEdges(extra);
+                    for (int i = 0; i < extra.size(); i++) {
+                        graph.removeEdge(extra.sourceAt(i), extra.destinationAt(i));
+                    }
+                });
+            }
+            runTogether(tasks);
+
+            assertSameGraph(maze, graph);
+        }
+    }
+
+    /**
+     * Compares the concurrent graph with a graph holding the same passages, built on one thread.
+     */
+    private static void assertSameGraph(EdgeBuffer maze, ConcurrentGraph graph) {
+        Graph expected = new GraphBuilder(ROWS, COLUMNS).edges(maze).build();
+        Graph copy = graph.toGraph();
+        assertEquals(expected.getEdgesNb(), graph.getEdgesNb());
+        assertEquals(expected.getEdgesNb(), copy.getEdgesNb());
+        assertEquals(expected.contentHash(), graph.contentHash());
+        assertEquals(expected.contentHash(), copy.contentHash());
+        assertArrayEquals(sorted(expected.getEdgeBuffer()), sorted(copy.getEdgeBuffer()));
+    }
+
+    /**
+     * Runs the tasks on the writer threads, all released at once, and waits for them.
+     */
+    private static void runTogether(List<Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> calls = new ArrayList<>();
+        for (Runnable task : tasks) {
+            calls.add(() -> {
+                start.await();
+                task.run();
+                return null;
+            });
+        }
+        List<Future<Void>> results = new ArrayList<>();
+        for (Callable<Void> call : calls) {
+            results.add(writers.submit(call));
+        }
+        start.countDown();
+        for (Future<Void> result : results) {
+            result.get();
+        }
+    }
+
+    /**
+     * Returns passages between neighbouring cells that are not in the maze.
+     */
+    private static EdgeBuffer extraPassages(EdgeBuffer maze, int seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        EdgeBuffer extra = new EdgeBuffer();
+        while (extra.size() < 200) {
+            int cell = rnd.nextInt(ROWS * COLUMNS);
+            boolean right = rnd.nextBoolean();
+            int neighbour = right ? cell + 1 : cell + COLUMNS;
+            boolean inside = right ? cell % COLUMNS + 1 < COLUMNS : neighbour < ROWS * COLUMNS;
+            if (inside && !maze.contains(cell, neighbour) && !maze.contains(neighbour, cell)) {
+                extra.add(cell, neighbour);
+            }
+        }
+        return extra;
+    }
+
+    private static long[] shuffled(long[] passages, int seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        for (int i = passages.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            long swap = passages[i];
+            passages[i] = passages[j];
+            passages[j] = swap;
+        }
+        return passages;
+    }
+
+    private static long[] sorted(EdgeBuffer edges) {
+        long[] packed = edges.toArray();
+        Arrays.sort(packed);
+        return packed;
+    }
+}
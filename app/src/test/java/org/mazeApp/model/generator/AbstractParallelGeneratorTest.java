@@ -0,0 +1,96 @@
+package org.mazeApp.model.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mazeApp.model.MazeValidator;
+
+/**
+ * Common checks of the generators running on a fork/join pool: the passages
+ * must not depend on the number of threads, and the mazes must be perfect.
+ * Each subclass gives the settings to try, such as fork thresholds or tile sizes.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+abstract class AbstractParallelGeneratorTest {
+
+    /** Shapes tried, as rows and columns: single cells, lines, and chambers large enough to fork. */
+    protected static final int[][] SHAPES = {{1, 1}, {1, 37}, {37, 1}, {2, 2}, {37, 53}, {300, 200}};
+
+    protected static ForkJoinPool singleThread;
+    protected static ForkJoinPool fourThreads;
+
+    @BeforeAll
+    static void createPools() {
+        singleThread = new ForkJoinPool(1);
+        fourThreads = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPools() {
+        singleThread.shutdown();
+        fourThreads.shutdown();
+    }
+
+    /**
+     * {@return the values of the setting under test}
+     */
+    protected abstract int[] settings();
+
+    /**
+     * Creates the generator under test.
+     *
+     * @param setting one of {@link #settings()}
+     * @param pool the pool to run on
+     * @return a new generator
+     */
+    protected abstract MazeGenerator create(int setting, ForkJoinPool pool);
+
+    @Test
+    void passagesDoNotDependOnTheThreads() {
+        assertSameOnBothPools(this::create);
+    }
+
+    @Test
+    void mazesArePerfect() {
+        for (int setting : settings()) {
+            for (int[] shape : SHAPES) {
+                for (ForkJoinPool pool : new ForkJoinPool[] {singleThread, fourThreads}) {
+                    assertTrue(MazeValidator.validate(shape[0], shape[1],
+                            create(setting, pool).generatePacked(shape[0], shape[1], 7)).isPerfect(),
+                            describe(shape, 7, setting, pool));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that one and four threads give the same passages, for every setting, shape and seed.
+     *
+     * @param factory creates a generator from a setting and a pool
+     */
+    protected void assertSameOnBothPools(BiFunction<Integer, ForkJoinPool, MazeGenerator> factory) {
+        for (int setting : settings()) {
+            for (int[] shape : SHAPES) {
+                for (int seed = 0; seed < 3; seed++) {
+                    long[] expected = factory.apply(setting, singleThread)
+                            .generatePacked(shape[0], shape[1], seed).toArray();
+                    long[] passages = factory.apply(setting, fourThreads)
+                            .generatePacked(shape[0], shape[1], seed).toArray();
+                    assertArrayEquals(expected, passages, describe(shape, seed, setting, fourThreads));
+                }
+            }
+        }
+    }
+
+    protected static String describe(int[] shape, int seed, int setting, ForkJoinPool pool) {
+        return shape[0] + "x" + shape[1] + " seed " + seed + ", setting " + setting + ", "
+                + pool.getParallelism() + " threads";
+    }
+}
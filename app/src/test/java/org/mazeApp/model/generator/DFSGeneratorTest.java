@@ -0,0 +1,139 @@
+package org.mazeApp.model.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.mazeApp.model.EdgeBuffer;
+import org.mazeApp.model.Edges;
+import org.mazeApp.model.GridMaze;
+
+/**
+ * Checks that {@link DFSGenerator} still gives, for a given seed, the maze of
+ * the original recursive generator (the one shuffling its neighbours with
+ * {@code Collections.shuffle}). The expected passages were produced by that
+ * generator, in its order.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+class DFSGeneratorTest {
+
+    private static final int[][] MAZE_3X4_SEED_1 = {
+        {9, 5}, {5, 1}, {1, 2}, {2, 3}, {3, 7}, {7, 6}, {6, 10}, {10, 11}, {1, 0}, {0, 4}, {4, 8}
+    };
+
+    private static final int[][] MAZE_5X5_SEED_42 = {
+        {5, 0}, {0, 1}, {1, 6}, {6, 7}, {7, 2}, {2, 3}, {3, 4}, {4, 9}, {9, 14}, {14, 13}, {13, 12},
+        {12, 11}, {11, 16}, {16, 15}, {15, 20}, {20, 21}, {21, 22}, {22, 17}, {17, 18}, {18, 23},
+        {23, 24}, {24, 19}, {15, 10}, {13, 8}
+    };
+
+    private static final int[][] MAZE_4X7_SEED_2025 = {
+        {20, 27}, {27, 26}, {26, 25}, {25, 18}, {18, 17}, {17, 10}, {10, 11}, {11, 4}, {4, 5},
+        {5, 12}, {12, 19}, {12, 13}, {13, 6}, {4, 3}, {3, 2}, {2, 1}, {1, 0}, {0, 7}, {7, 14},
+        {14, 21}, {21, 22}, {22, 23}, {23, 16}, {16, 9}, {9, 8}, {8, 15}, {23, 24}
+    };
+
+    private static final int[][] IMPERFECT_6X6_SEED_3 = {
+        {8, 7}, {7, 1}, {1, 0}, {0, 6}, {6, 12}, {12, 13}, {13, 19}, {19, 25}, {25, 26}, {26, 27},
+        {27, 28}, {28, 22}, {22, 21}, {21, 15}, {15, 16}, {16, 17}, {17, 23}, {23, 29}, {29, 35},
+        {35, 34}, {34, 33}, {31, 30}, {30, 24}, {24, 18}, {17, 11}, {11, 5}, {5, 4}, {4, 3},
+        {3, 9}, {9, 10}, {3, 2}, {21, 20}
+    };
+
+    @Test
+    void smallMazesMatchTheRecursiveGenerator() {
+        assertSameMaze(MAZE_3X4_SEED_1, 3, 4, 1);
+        assertSameMaze(MAZE_5X5_SEED_42, 5, 5, 42);
+        assertSameMaze(MAZE_4X7_SEED_2025, 4, 7, 2025);
+    }
+
+    @Test
+    void largerMazesMatchTheRecursiveGenerator() {
+        // Order-sensitive hashes of the passages, the mazes are too large to list
+        assertSameHash(-4156512469296086796L, 2399, 40, 60, 7);
+        assertSameHash(-5698289970475358433L, 9999, 100, 100, 123);
+        assertSameHash(4251918216700594964L, 49, 1, 50, 9);
+    }
+
+    @Test
+    void imperfectMazeMatchesTheRecursiveGenerator() {
+        DFSGenerator generator = new DFSGenerator(true);
+        assertArrayEquals(pack(IMPERFECT_6X6_SEED_3), generator.generatePacked(6, 6, 3).toArray());
+        assertArrayEquals(pack(IMPERFECT_6X6_SEED_3), pack(generator.generate(6, 6, 3)));
+        assertInto(IMPERFECT_6X6_SEED_3, generator, 6, 6, 3);
+    }
+
+    @Test
+    void singleCellHasNoPassage() {
+        DFSGenerator generator = new DFSGenerator();
+        assertTrue(generator.generatePacked(1, 1, 0).isEmpty());
+        assertTrue(generator.generate(1, 1, 0).isEmpty());
+    }
+
+    /**
+     * Checks the three entry points of the generator against the expected passages.
+     */
+    private static void assertSameMaze(int[][] expected, int rows, int columns, int seed) {
+        DFSGenerator generator = new DFSGenerator();
+        assertArrayEquals(pack(expected), generator.generatePacked(rows, columns, seed).toArray(),
+                "generatePacked " + rows + "x" + columns + " seed " + seed);
+        assertArrayEquals(pack(expected), pack(generator.generate(rows, columns, seed)),
+                "generate " + rows + "x" + columns + " seed " + seed);
+        assertInto(expected, generator, rows, columns, seed);
+    }
+
+    private static void assertSameHash(long expectedHash, int expectedSize, int rows, int columns, int seed) {
+        DFSGenerator generator = new DFSGenerator();
+        long[] packed = generator.generatePacked(rows, columns, seed).toArray();
+        assertEquals(expectedSize, packed.length);
+        assertEquals(expectedHash, hash(packed), "generatePacked " + rows + "x" + columns + " seed " + seed);
+        assertEquals(expectedHash, hash(pack(generator.generate(rows, columns, seed))),
+                "generate " + rows + "x" + columns + " seed " + seed);
+
+        // generateInto has no order, it must open the same set of passages
+        GridMaze maze = new GridMaze(rows, columns);
+        generator.generateInto(maze, seed);
+        assertEquals(expectedSize, maze.getPassageCount());
+        for (long edge : packed) {
+            assertTrue(maze.hasEdge(Edges.sourceOf(edge), Edges.destinationOf(edge)));
+        }
+    }
+
+    /**
+     * generateInto fills an unordered storage, so only the set of passages is compared.
+     */
+    private static void assertInto(int[][] expected, DFSGenerator generator, int rows, int columns, int seed) {
+        GridMaze maze = new GridMaze(rows, columns);
+        generator.generateInto(maze, seed);
+        assertEquals(expected.length, maze.getPassageCount(),
+                "generateInto " + rows + "x" + columns + " seed " + seed);
+        for (int[] passage : expected) {
+            assertTrue(maze.hasEdge(passage[0], passage[1]), "generateInto misses " + passage[0] + "-" + passage[1]);
+        }
+    }
+
+    private static long[] pack(int[][] passages) {
+        EdgeBuffer buffer = new EdgeBuffer(passages.length);
+        for (int[] passage : passages) {
+            buffer.add(passage[0], passage[1]);
+        }
+        return buffer.toArray();
+    }
+
+    private static long[] pack(ArrayList<Edges> passages) {
+        return EdgeBuffer.fromEdges(passages).toArray();
+    }
+
+    private static long hash(long[] packed) {
+        long hash = 17;
+        for (long edge : packed) {
+            hash = 31 * hash + Edges.sourceOf(edge);
+            hash = 31 * hash + Edges.destinationOf(edge);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,30 @@
+package org.mazeApp.model.generator;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link ParallelTiledGenerator} only depends on the seed and the
+ * tile size, never on the number of threads, and that it builds perfect mazes.
+ * The tile size is part of the maze, so it is compared within each size.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+class ParallelTiledGeneratorTest extends AbstractParallelGeneratorTest {
+
+    @Override
+    protected int[] settings() {
+        return new int[] {1, 4, ParallelTiledGenerator.DEFAULT_TILE_SIZE};
+    }
+
+    @Override
+    protected MazeGenerator create(int tileSize, ForkJoinPool pool) {
+        return new ParallelTiledGenerator(new DFSGenerator(), tileSize, pool);
+    }
+
+    @Test
+    void kruskalTilesDoNotDependOnTheThreads() {
+        assertSameOnBothPools((tileSize, pool) -> new ParallelTiledGenerator(new KruskalGenerator(), tileSize, pool));
+    }
+}
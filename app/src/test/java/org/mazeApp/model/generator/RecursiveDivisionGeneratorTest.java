@@ -0,0 +1,40 @@
+package org.mazeApp.model.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link RecursiveDivisionGenerator} only depends on the seed: the
+ * number of threads and the fork threshold must not change the passages.
+ * @author Abdellah, Felipe, Jeremy, Shawrov, Melina
+ * @since 1.1
+ */
+class RecursiveDivisionGeneratorTest extends AbstractParallelGeneratorTest {
+
+    @Override
+    protected int[] settings() {
+        return new int[] {1, 4, RecursiveDivisionGenerator.DEFAULT_FORK_THRESHOLD};
+    }
+
+    @Override
+    protected MazeGenerator create(int forkThreshold, ForkJoinPool pool) {
+        return new RecursiveDivisionGenerator(forkThreshold, pool);
+    }
+
+    @Test
+    void passagesDoNotDependOnTheForkThreshold() {
+        for (int[] shape : SHAPES) {
+            for (int seed = 0; seed < 3; seed++) {
+                long[] expected = create(1, fourThreads).generatePacked(shape[0], shape[1], seed).toArray();
+                for (int threshold : settings()) {
+                    assertArrayEquals(expected, create(threshold, fourThreads)
+                            .generatePacked(shape[0], shape[1], seed).toArray(),
+                            describe(shape, seed, threshold, fourThreads));
+                }
+            }
+        }
+    }
+}